@@ -0,0 +1,45 @@
+package db.migration;
+
+import dev.dexellent.dexapi.domain.service.SearchKeys;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Computes search keys for translations written before the column existed. The folding is done
+ * in Java so that stored keys are identical to the ones computed for incoming queries.
+ */
+public class V3__Backfill_pokemon_translation_search_keys extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, name FROM pokemon_translations WHERE search_key IS NULL");
+             PreparedStatement update = context.getConnection()
+                     .prepareStatement("UPDATE pokemon_translations SET search_key = ? WHERE id = ?")) {
+
+            int pending = 0;
+            while (rows.next()) {
+                update.setString(1, SearchKeys.fold(rows.getString("name")));
+                update.setLong(2, rows.getLong("id"));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+
+        try (Statement alter = context.getConnection().createStatement()) {
+            alter.execute("ALTER TABLE pokemon_translations ALTER COLUMN search_key SET NOT NULL");
+        }
+    }
+}
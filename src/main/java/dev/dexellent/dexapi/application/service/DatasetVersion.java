@@ -0,0 +1,35 @@
+package dev.dexellent.dexapi.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the served dataset. It starts at the startup time in
+ * milliseconds and moves forward when an import completes, so a version issued by a previous
+ * process is never reused for different data.
+ * <p>
+ * The bump runs after every other import listener: once a reader sees a new version, the
+ * snapshot and caches it reads from are already up to date.
+ */
+@Component
+@Slf4j
+public class DatasetVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onImportCompleted(ImportCompletedEvent event) {
+        long next = version.updateAndGet(current -> Math.max(current + 1, System.currentTimeMillis()));
+        log.info("Dataset version is now {} after import from {}", next, event.source());
+    }
+}
@@ -0,0 +1,31 @@
+package dev.dexellent.dexapi.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last Pokemon of a keyset page: its national dex number, which is the sort key,
+ * and its id. Handed to clients as an opaque URL-safe token.
+ */
+public record DexCursor(int nationalDexNumber, long id) {
+
+    public static DexCursor of(int nationalDexNumber, long id) {
+        return new DexCursor(nationalDexNumber, id);
+    }
+
+    public static DexCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new DexCursor(Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((nationalDexNumber + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+package dev.dexellent.dexapi.application.service;
+
+import dev.dexellent.dexapi.infrastructure.importer.ImportResult;
+
+/**
+ * Published by {@link ImportService} once an import has written data, so that
+ * read-side structures built from the database can be refreshed.
+ */
+public record ImportCompletedEvent(String source, ImportResult result) {
+}
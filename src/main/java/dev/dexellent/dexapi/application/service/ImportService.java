@@ -7,6 +7,7 @@ import dev.dexellent.dexapi.infrastructure.importer.DataImporter;
 import dev.dexellent.dexapi.infrastructure.importer.ImportResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class ImportService {
     private final List<DataImporter<Pokemon>> pokemonImporters;
     private final List<DataImporter<Type>> typeImporters;
     private final List<DataImporter<Generation>> generationImporters;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Map<String, DataImporter<Pokemon>> getAvailableImporters() {
         return pokemonImporters.stream()
@@ -69,7 +71,7 @@ public class ImportService {
                     .build();
         }
 
-        return executeImport(importer, limit, offset, "Generations");
+        return publishCompletion(executeImport(importer, limit, offset, "Generations"));
     }
 
     @Transactional
@@ -89,7 +91,7 @@ public class ImportService {
                     .build();
         }
 
-        return executeImport(importer, limit, offset, "Types");
+        return publishCompletion(executeImport(importer, limit, offset, "Types"));
     }
 
     private <T> ImportResult executeImport(DataImporter<T> importer, int limit, int offset, String entityType) {
@@ -141,6 +143,10 @@ public class ImportService {
 
     @Transactional
     public ImportResult importPokemon(String sourceName, int limit, int offset) {
+        return publishCompletion(doImportPokemon(sourceName, limit, offset));
+    }
+
+    private ImportResult doImportPokemon(String sourceName, int limit, int offset) {
         DataImporter<Pokemon> importer = getAvailableImporters().get(sourceName);
         if (importer == null) {
             return ImportResult.builder()
@@ -165,7 +171,7 @@ public class ImportService {
             int currentBatch = Math.min(batchSize, totalLimit - offset);
             log.info("Processing Pokemon batch: offset={}, size={}", offset, currentBatch);
 
-            ImportResult batchResult = importPokemon(sourceName, currentBatch, offset);
+            ImportResult batchResult = doImportPokemon(sourceName, currentBatch, offset);
 
             totalSuccessful += batchResult.getSuccessfulImports();
             totalFailed += batchResult.getFailedImports();
@@ -183,7 +189,7 @@ public class ImportService {
             }
         }
 
-        return ImportResult.builder()
+        return publishCompletion(ImportResult.builder()
                 .success(totalFailed == 0)
                 .totalRecords(totalSuccessful + totalFailed)
                 .successfulImports(totalSuccessful)
@@ -192,6 +198,14 @@ public class ImportService {
                 .source(sourceName)
                 .startTime(overallStart)
                 .endTime(LocalDateTime.now())
-                .build();
+                .build());
+    }
+
+    private ImportResult publishCompletion(ImportResult result) {
+        // Batches only publish once at the end, so listeners rebuild a single time per import
+        if (result.getSuccessfulImports() > 0) {
+            eventPublisher.publishEvent(new ImportCompletedEvent(result.getSource(), result));
+        }
+        return result;
     }
 }
\ No newline at end of file
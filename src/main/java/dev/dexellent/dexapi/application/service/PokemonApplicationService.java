@@ -1,21 +1,51 @@
 package dev.dexellent.dexapi.application.service;
 
+import dev.dexellent.dexapi.application.snapshot.DexSnapshot;
+import dev.dexellent.dexapi.application.snapshot.DexSnapshotHolder;
 import dev.dexellent.dexapi.domain.model.Pokemon;
 import dev.dexellent.dexapi.domain.model.PokemonTranslation;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.PokemonExpansions;
+import dev.dexellent.dexapi.domain.repository.PokemonListRow;
+import dev.dexellent.dexapi.domain.repository.PokemonRelations;
 import dev.dexellent.dexapi.domain.repository.PokemonRepository;
+import dev.dexellent.dexapi.domain.repository.PokemonSearchCriteria;
 import dev.dexellent.dexapi.domain.service.LanguageService;
+import dev.dexellent.dexapi.domain.service.SearchKeys;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.MultilingualPokemonResponse;
 import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonSuggestionResponse;
 import dev.dexellent.dexapi.infrastructure.web.mapper.PokemonMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -23,75 +53,610 @@ import java.util.List;
 @Slf4j
 public class PokemonApplicationService {
 
+    private static final int EXPORT_CHUNK_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 100;
+
     private final PokemonRepository pokemonRepository;
     private final LanguageService languageService;
     private final PokemonMapper pokemonMapper;
+    private final DexSnapshotHolder snapshotHolder;
+    private final PokemonRelationLoader relationLoader;
+    private final CacheManager cacheManager;
+    private final PlatformTransactionManager transactionManager;
+
+    // Keyed like the cache entries they fill; ids and identifiers cannot collide since identifiers are not numeric
+    private final SingleFlight<String, PokemonResponse> detailLoads = new SingleFlight<>();
+    private final SingleFlight<Long, MultilingualPokemonResponse> multilingualLoads = new SingleFlight<>();
+
+    // While a snapshot is serving, it answers faster than any cache round trip, so caching is skipped.
+    // Cache misses are coalesced per key, and callers waiting on a shared load hold no connection.
+    // Reads run outside any transaction; only the database fallback opens a read-only one.
+    @Cacheable(value = "pokemon", key = "#id + '_' + #languageCode + #fields.cacheKeySuffix()",
+            condition = "!@dexSnapshotHolder.serving")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PokemonResponse findById(Long id, String languageCode, PokemonFields fields) {
+        return detailLoads.execute(id + "_" + languageCode + fields.cacheKeySuffix(),
+                () -> loadById(id, languageCode, fields));
+    }
 
-    @Cacheable(value = "pokemon", key = "#id + '_' + #languageCode")
-    public PokemonResponse findById(Long id, String languageCode) {
+    private PokemonResponse loadById(Long id, String languageCode, PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        Pokemon pokemon = pokemonRepository.findByIdWithTranslations(id, language)
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            PokemonResponse response = snapshot.findById(id, language)
+                    .map(fields::project)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with id: " + id));
+            return expand(response, language, fields);
+        }
+
+        return readOnly(() -> {
+            Pokemon pokemon = pokemonRepository.findByIdWithAllTranslations(id)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with id: " + id));
+
+            log.debug("Found Pokemon with id: {} in language: {}", id, language.getCode());
+            return toDetailResponse(pokemon, language, fields);
+        });
+    }
+
+    /**
+     * Every translation of a Pokemon in one response, built from a single load of all its translations
+     * and relations and cached as one entry rather than one per language.
+     */
+    @Cacheable(value = "pokemon", key = "#id + '_*'", condition = "!@dexSnapshotHolder.serving")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MultilingualPokemonResponse findByIdInAllLanguages(Long id) {
+        return multilingualLoads.execute(id, () -> loadByIdInAllLanguages(id));
+    }
+
+    private MultilingualPokemonResponse loadByIdInAllLanguages(Long id) {
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            Map<Language, PokemonResponse> responses = snapshot.findByIdInAllLanguages(id)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with id: " + id));
+            PokemonResponse english = responses.get(Language.EN);
+            Map<String, PokemonResponse> translations = new LinkedHashMap<>();
+            for (String code : english.getAvailableLanguages()) {
+                PokemonResponse response = responses.get(Language.fromCodeStrict(code));
+                if (response != null) {
+                    translations.put(code, response);
+                }
+            }
+            return MultilingualPokemonResponse.builder()
+                    .id(english.getId())
+                    .nationalDexNumber(english.getNationalDexNumber())
+                    .identifier(english.getIdentifier())
+                    .availableLanguages(english.getAvailableLanguages())
+                    .translations(translations)
+                    .build();
+        }
+
+        return readOnly(() -> loadByIdInAllLanguagesFromDatabase(id));
+    }
+
+    private MultilingualPokemonResponse loadByIdInAllLanguagesFromDatabase(Long id) {
+        Pokemon pokemon = pokemonRepository.findByIdWithAllTranslations(id)
                 .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with id: " + id));
+        PokemonRelations relations = relationLoader.load(List.of(pokemon));
 
-        log.debug("Found Pokemon with id: {} in language: {}", id, language.getCode());
-        return pokemonMapper.toResponse(pokemon, language);
+        List<String> languages = availableLanguages(pokemon);
+        Map<String, PokemonResponse> translations = new LinkedHashMap<>();
+        for (String code : languages) {
+            translations.put(code, toDetailResponse(pokemon, Language.fromCodeStrict(code), relations));
+        }
+        return MultilingualPokemonResponse.builder()
+                .id(pokemon.getId())
+                .nationalDexNumber(pokemon.getNationalDexNumber())
+                .identifier(pokemon.getIdentifier())
+                .availableLanguages(languages)
+                .translations(translations)
+                .build();
     }
 
-    @Cacheable(value = "pokemon", key = "#identifier + '_' + #languageCode")
-    public PokemonResponse findByIdentifier(String identifier, String languageCode) {
+    @Cacheable(value = "pokemon", key = "#identifier + '_' + #languageCode + #fields.cacheKeySuffix()",
+            condition = "!@dexSnapshotHolder.serving")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PokemonResponse findByIdentifier(String identifier, String languageCode, PokemonFields fields) {
+        return detailLoads.execute(identifier + "_" + languageCode + fields.cacheKeySuffix(),
+                () -> loadByIdentifier(identifier, languageCode, fields));
+    }
+
+    private PokemonResponse loadByIdentifier(String identifier, String languageCode, PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        Pokemon pokemon = pokemonRepository.findByIdentifier(identifier)
-                .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with identifier: " + identifier));
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            PokemonResponse response = snapshot.findByIdentifier(identifier, language)
+                    .map(fields::project)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with identifier: " + identifier));
+            return expand(response, language, fields);
+        }
+
+        return readOnly(() -> {
+            // Identifiers are stored lower-case ASCII, so the folded input matches them directly
+            Pokemon pokemon = pokemonRepository.findByIdentifier(SearchKeys.fold(identifier))
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with identifier: " + identifier));
 
-        return pokemonMapper.toResponse(pokemon, language);
+            return toDetailResponse(pokemon, language, fields);
+        });
     }
 
-    public PokemonResponse findByName(String name, String languageCode) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PokemonResponse findByName(String name, String languageCode, PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        Pokemon pokemon = pokemonRepository.findByNameInLanguage(name, language)
-                .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with name: " + name + " in language: " + language.getCode()));
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            PokemonResponse response = snapshot.findByName(name, language)
+                    .map(fields::project)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with name: " + name + " in language: " + language.getCode()));
+            return expand(response, language, fields);
+        }
 
-        return pokemonMapper.toResponse(pokemon, language);
+        return readOnly(() -> {
+            Pokemon pokemon = pokemonRepository.findByNameInLanguage(name, language)
+                    .orElseThrow(() -> new PokemonNotFoundException("Pokemon not found with name: " + name + " in language: " + language.getCode()));
+
+            return toDetailResponse(pokemon, language, fields);
+        });
     }
 
-    @Cacheable(value = "pokemon_list", key = "#languageCode + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
-    public Page<PokemonResponse> findAll(String languageCode, Pageable pageable) {
+    /**
+     * Typo-tolerant name lookup. Without a snapshot there is no edit-distance index, so only an
+     * exact match (distance 0) can be returned.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PokemonSuggestionResponse> findByNameFuzzy(String name, String languageCode, int maxDistance, int limit) {
         Language language = languageService.getLanguage(languageCode);
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findAllWithTranslations(language, pageable);
-        return pokemonPage.map(pokemon -> pokemonMapper.toResponse(pokemon, language));
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return snapshot.findByNameFuzzy(name, language, maxDistance, limit);
+        }
+
+        return readOnly(() -> pokemonRepository.findByNameInLanguage(name, language)
+                .map(pokemon -> {
+                    PokemonTranslation translation = pokemon.getTranslationOrDefault(language);
+                    return List.of(PokemonSuggestionResponse.builder()
+                            .id(pokemon.getId())
+                            .nationalDexNumber(pokemon.getNationalDexNumber())
+                            .identifier(pokemon.getIdentifier())
+                            .name(translation != null ? translation.getName() : pokemon.getIdentifier())
+                            .distance(0)
+                            .build());
+                })
+                .orElse(List.of()));
     }
 
-    public Page<PokemonResponse> searchByName(String name, String languageCode, Pageable pageable) {
+    @Cacheable(value = "pokemon_list",
+            key = "#languageCode + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort + #fields.cacheKeySuffix()",
+            condition = "!@dexSnapshotHolder.serving")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PokemonResponse> findAll(String languageCode, Pageable pageable, PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findByNameContainingInLanguage(name, language, pageable);
-        return pokemonPage.map(pokemon -> pokemonMapper.toResponse(pokemon, language));
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.findAll(language, pageable).map(fields::project), language, fields);
+        }
+
+        // The snapshot checks orders itself; here they are rejected rather than left to an unindexed sort,
+        // and ties are broken in dex order like the snapshot's permutations do
+        Pageable sorted = PokemonSort.forDatabase(pageable);
+        return readOnly(() -> toResponsePage(pokemonRepository.findAllIds(sorted), pageable, language, fields));
     }
 
-    public Page<PokemonResponse> findByGeneration(Long generationId, String languageCode, Pageable pageable) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<PokemonResponse> findAll(String languageCode, DexCursor after, boolean descending, int size,
+                                               PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findByGenerationId(generationId, language, pageable);
-        return pokemonPage.map(pokemon -> pokemonMapper.toResponse(pokemon, language));
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.findAll(language, after, descending, size).map(fields::project), language, fields);
+        }
+
+        return readOnly(() ->
+                keysetPage(pokemonRepository::findIdsInDexRange, language, after, descending, size, fields));
     }
 
-    public List<PokemonResponse> findByIds(List<Long> ids, String languageCode) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PokemonResponse> searchByName(String name, String languageCode, Pageable pageable,
+                                              PokemonFields fields) {
         Language language = languageService.getLanguage(languageCode);
 
-        List<Pokemon> pokemon = pokemonRepository.findByIds(ids, language);
-        return pokemon.stream()
-                .map(p -> pokemonMapper.toResponse(p, language))
-                .toList();
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.searchByName(name, language, pageable).map(fields::project), language, fields);
+        }
+
+        Pageable sorted = PokemonSort.forDatabase(pageable);
+        return readOnly(() -> toResponsePage(
+                pokemonRepository.findIdsByNameContainingInLanguage(name, language, sorted), pageable, language, fields));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<PokemonResponse> searchByName(String name, String languageCode, DexCursor after,
+                                                    boolean descending, int size, PokemonFields fields) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.searchByName(name, language, after, descending, size).map(fields::project),
+                    language, fields);
+        }
+
+        return readOnly(() -> keysetPage((lower, upper, sort, limit) ->
+                        pokemonRepository.findIdsByNameContainingInDexRange(name, language, lower, upper, sort, limit),
+                language, after, descending, size, fields));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PokemonResponse> findByGeneration(Long generationId, String languageCode, Pageable pageable,
+                                                  PokemonFields fields) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.findByGeneration(generationId, language, pageable).map(fields::project),
+                    language, fields);
+        }
+
+        Pageable sorted = PokemonSort.forDatabase(pageable);
+        return readOnly(() -> toResponsePage(
+                pokemonRepository.findIdsByGenerationId(generationId, sorted), pageable, language, fields));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<PokemonResponse> findByGeneration(Long generationId, String languageCode, DexCursor after,
+                                                        boolean descending, int size, PokemonFields fields) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            CursorPage<PokemonResponse> page = snapshot.findByGeneration(generationId, language, after, descending, size);
+            return expand(page.map(fields::project), language, fields);
+        }
+
+        return readOnly(() -> keysetPage((lower, upper, sort, limit) ->
+                        pokemonRepository.findIdsByGenerationIdInDexRange(generationId, lower, upper, sort, limit),
+                language, after, descending, size, fields));
+    }
+
+    /**
+     * Pokemon matching every filter of {@code criteria}. The snapshot intersects precomputed bitsets;
+     * the database answers any combination with a single statement whose unused filters are no-ops.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PokemonResponse> search(PokemonSearchCriteria criteria, String languageCode, Pageable pageable,
+                                        PokemonFields fields) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.search(criteria, language, pageable).map(fields::project), language, fields);
+        }
+
+        Pageable sorted = PokemonSort.forDatabase(pageable);
+        return readOnly(() -> toResponsePage(
+                pokemonRepository.findIdsByCriteria(criteria, language, sorted), pageable, language, fields));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<PokemonResponse> search(PokemonSearchCriteria criteria, String languageCode, DexCursor after,
+                                              boolean descending, int size, PokemonFields fields) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.search(criteria, language, after, descending, size).map(fields::project),
+                    language, fields);
+        }
+
+        return readOnly(() -> keysetPage((lower, upper, sort, limit) ->
+                        pokemonRepository.findIdsByCriteriaInDexRange(criteria, language, lower, upper, sort, limit),
+                language, after, descending, size, fields));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PokemonSuggestionResponse> suggest(String prefix, String languageCode, int limit) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return snapshot.suggest(prefix, language, limit);
+        }
+
+        return readOnly(() -> pokemonRepository.findTranslationsByNamePrefix(prefix, language, Limit.of(limit)).stream()
+                .map(translation -> PokemonSuggestionResponse.builder()
+                        .id(translation.getPokemon().getId())
+                        .nationalDexNumber(translation.getPokemon().getNationalDexNumber())
+                        .identifier(translation.getPokemon().getIdentifier())
+                        .name(translation.getName())
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Resolves each distinct id from the {@code pokemon} cache, loads all misses in one batch and
+     * backfills the cache with them. Results follow the order in which ids were first requested,
+     * with {@code null} for ids that do not exist.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PokemonResponse> findByIds(List<Long> ids, String languageCode, PokemonFields fields) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " ids can be requested at once");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Ids must not be null");
+        }
+
+        Language language = languageService.getLanguage(languageCode);
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return expand(snapshot.findByIds(distinctIds, language).stream()
+                    .map(fields::project)
+                    .toList(), language, fields);
+        }
+
+        Cache cache = cacheManager.getCache("pokemon");
+        Map<Long, PokemonResponse> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            PokemonResponse cached = cache != null ? cache.get(id + "_" + languageCode, PokemonResponse.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<PokemonResponse> loaded = readOnly(() -> {
+                List<Pokemon> pokemon = pokemonRepository.findByIdsWithAllTranslations(misses);
+                PokemonRelations relations = relationLoader.load(pokemon, fields);
+                return pokemon.stream()
+                        .map(p -> toDetailResponse(p, language, relations))
+                        .toList();
+            });
+            for (PokemonResponse response : loaded) {
+                found.put(response.getId(), response);
+                if (cache != null && fields.isAll()) {
+                    // Same key and value as findById, so either path warms the other
+                    cache.put(response.getId() + "_" + languageCode, response);
+                }
+            }
+        }
+
+        log.debug("Bulk lookup of {} ids: {} from cache, {} loaded", distinctIds.size(),
+                distinctIds.size() - misses.size(), misses.size());
+        // Cached entries are full responses, so every result goes through the projection
+        return expand(distinctIds.stream()
+                .map(found::get)
+                .map(fields::project)
+                .toList(), language, fields);
     }
 
+    /**
+     * Hands every Pokemon to {@code sink} in national dex order. From the database, Pokemon are read
+     * in keyset chunks, each loaded and mapped in its own read-only transaction and written once that
+     * transaction has ended, so a slow client never holds a pooled connection and memory use does not
+     * grow with the size of the dex.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportAll(String languageCode, Consumer<PokemonResponse> sink) {
+        Language language = languageService.getLanguage(languageCode);
+
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            snapshot.forEach(language, sink);
+            return;
+        }
+
+        int after = Integer.MIN_VALUE;
+        while (true) {
+            int lower = after;
+            List<PokemonResponse> chunk = readOnly(() -> exportChunk(lower, language));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(sink);
+            after = chunk.getLast().getNationalDexNumber();
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<String> getAvailableLanguages(Long pokemonId) {
-        List<Language> languages = pokemonRepository.findAvailableLanguages(pokemonId);
-        return languages.stream()
+        DexSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            return snapshot.findAvailableLanguages(pokemonId);
+        }
+
+        return readOnly(() -> pokemonRepository.findAvailableLanguages(pokemonId).stream()
                 .map(Language::getCode)
+                .toList());
+    }
+
+    /**
+     * Maps the next {@link #EXPORT_CHUNK_SIZE} Pokemon after national dex number {@code after}, then
+     * detaches them, since an open-in-view session would otherwise keep every chunk managed.
+     */
+    private List<PokemonResponse> exportChunk(int after, Language language) {
+        List<Long> ids = pokemonRepository.findIdsInDexRange(after, Integer.MAX_VALUE,
+                Sort.by(PokemonSort.NATURAL), Limit.of(EXPORT_CHUNK_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Pokemon> pokemonById = pokemonRepository.findByIdsWithAllTranslations(ids).stream()
+                .collect(Collectors.toMap(Pokemon::getId, Function.identity()));
+        PokemonRelations relations = relationLoader.load(pokemonById.values());
+
+        List<PokemonResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Pokemon pokemon = pokemonById.get(id);
+            if (pokemon != null) {
+                PokemonResponse response = pokemonMapper.toResponse(pokemon, language, relations);
+                response.setAvailableLanguages(availableLanguages(pokemon));
+                responses.add(response);
+            }
+        }
+        pokemonRepository.clearLoaded();
+        return responses;
+    }
+
+    /**
+     * Assembles a detail response from a Pokemon loaded with all of its translations: relations come
+     * from a fixed number of batched queries and the available languages from the translations.
+     */
+    private PokemonResponse toDetailResponse(Pokemon pokemon, Language language, PokemonFields fields) {
+        PokemonResponse response = fields.project(
+                toDetailResponse(pokemon, language, relationLoader.load(List.of(pokemon), fields)));
+        return expand(response, language, fields);
+    }
+
+    /**
+     * Second phase of a paged lookup: loads the Pokemon of a page of ids, already limited and counted
+     * in the database, and keeps the order of the ids. The page reports the {@code pageable} that was
+     * requested, without the tie-breaker added for the database.
+     */
+    private Page<PokemonResponse> toResponsePage(Page<Long> idPage, Pageable pageable, Language language,
+                                                 PokemonFields fields) {
+        List<PokemonResponse> content = toResponses(loadInOrder(idPage.getContent(), language), language, fields);
+        return new PageImpl<>(expand(content, language, fields), pageable, idPage.getTotalElements());
+    }
+
+    /**
+     * Runs {@code work} in a read-only transaction, joining the current one if any. Reads served by
+     * the snapshot never get here, so they do not borrow a pooled connection.
+     */
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+
+    /**
+     * Adds the relations requested through {@code expand=} to {@code responses}, loading each relation
+     * for all of them in one query. Responses must not be shared, which holds for projections of any
+     * fieldset with expansions; {@code null} entries are skipped.
+     */
+    private List<PokemonResponse> expand(List<PokemonResponse> responses, Language language, PokemonFields fields) {
+        if (!fields.hasExpansions()) {
+            return responses;
+        }
+
+        List<Long> ids = responses.stream()
+                .filter(Objects::nonNull)
+                .map(PokemonResponse::getId)
                 .toList();
+        return readOnly(() -> {
+            PokemonExpansions expansions = relationLoader.loadExpansions(ids, fields);
+            for (PokemonResponse response : responses) {
+                if (response != null) {
+                    pokemonMapper.expand(response, expansions, language);
+                }
+            }
+            return responses;
+        });
+    }
+
+    private PokemonResponse expand(PokemonResponse response, Language language, PokemonFields fields) {
+        expand(List.of(response), language, fields);
+        return response;
+    }
+
+    private Page<PokemonResponse> expand(Page<PokemonResponse> page, Language language, PokemonFields fields) {
+        expand(page.getContent(), language, fields);
+        return page;
+    }
+
+    private CursorPage<PokemonResponse> expand(CursorPage<PokemonResponse> page, Language language,
+                                               PokemonFields fields) {
+        expand(page.content(), language, fields);
+        return page;
+    }
+
+    private PokemonResponse toDetailResponse(Pokemon pokemon, Language language, PokemonRelations relations) {
+        PokemonResponse response = pokemonMapper.toResponse(pokemon, language, relations);
+        response.setAvailableLanguages(availableLanguages(pokemon));
+        return response;
+    }
+
+    private static List<String> availableLanguages(Pokemon pokemon) {
+        return pokemon.getTranslations().stream()
+                .map(PokemonTranslation::getLanguage)
+                .distinct()
+                .sorted()
+                .map(Language::getCode)
+                .toList();
+    }
+
+    /**
+     * Seeks past the cursor on the dex number index and loads one page of ids plus one extra row,
+     * which tells whether another page follows without counting. The page itself is then loaded
+     * by id, so the cost does not depend on how deep the cursor is.
+     */
+    private CursorPage<PokemonResponse> keysetPage(DexRangeQuery query, Language language, DexCursor after,
+                                                   boolean descending, int size, PokemonFields fields) {
+        int lower = after != null && !descending ? after.nationalDexNumber() : Integer.MIN_VALUE;
+        int upper = after != null && descending ? after.nationalDexNumber() : Integer.MAX_VALUE;
+        Sort sort = Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "nationalDexNumber");
+
+        List<Long> ids = query.findIds(lower, upper, sort, Limit.of(size + 1));
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        List<PokemonListRow> rows = loadInOrder(pageIds, language);
+        List<PokemonResponse> content = toResponses(rows, language, fields);
+
+        String nextCursor = null;
+        if (hasNext && !rows.isEmpty()) {
+            PokemonListRow last = rows.get(rows.size() - 1);
+            nextCursor = DexCursor.of(last.nationalDexNumber(), last.id()).encode();
+        }
+        return new CursorPage<>(expand(content, language, fields), nextCursor);
+    }
+
+    /**
+     * Loads the listing rows of the given Pokemon in one flat query, in the order of {@code ids}; no
+     * entity is loaded or tracked by the persistence context.
+     */
+    private List<PokemonListRow> loadInOrder(List<Long> ids, Language language) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PokemonListRow> rowsById = pokemonRepository.findListRowsByIds(ids, language).stream()
+                .collect(Collectors.toMap(PokemonListRow::id, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<PokemonResponse> toResponses(List<PokemonListRow> rows, Language language, PokemonFields fields) {
+        PokemonRelations relations = relationLoader.loadForRows(rows, fields);
+        return rows.stream()
+                .map(row -> fields.project(pokemonMapper.toResponse(row, language, relations)))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface DexRangeQuery {
+        List<Long> findIds(int after, int before, Sort sort, Limit limit);
+    }
+
+    // Runs before DatasetVersion moves on, so a new version is never paired with cached stale data
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @CacheEvict(value = {"pokemon", "pokemon_list"}, allEntries = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onImportCompleted(ImportCompletedEvent event) {
+        log.debug("Evicted Pokemon caches after import from {}", event.source());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package dev.dexellent.dexapi.application.service;
+
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested through {@code fields=}, using the JSON names of {@link PokemonResponse},
+ * combined with the relations requested through {@code expand=}. It decides which relations are
+ * loaded and which properties are rendered; {@link #ALL} renders the default response, which embeds
+ * types, abilities and generation but not evolutions, moves or Pokedex entries.
+ */
+public final class PokemonFields {
+
+    public static final String TYPES = "types";
+    public static final String ABILITIES = "abilities";
+    public static final String GENERATION = "generation";
+    public static final String EVOLUTIONS = "evolutions";
+    public static final String MOVES = "moves";
+    public static final String POKEDEX_ENTRIES = "pokedex_entries";
+
+    private static final Set<String> RELATIONS =
+            Set.of(TYPES, ABILITIES, GENERATION, EVOLUTIONS, MOVES, POKEDEX_ENTRIES);
+    private static final Set<String> EXPANSIONS = Set.of(EVOLUTIONS, MOVES, POKEDEX_ENTRIES);
+
+    // Names accepted by expand=, which also takes the camel case spelling of the Pokedex entries
+    private static final Map<String, String> EXPAND_NAMES = Map.of(
+            TYPES, TYPES,
+            ABILITIES, ABILITIES,
+            GENERATION, GENERATION,
+            EVOLUTIONS, EVOLUTIONS,
+            MOVES, MOVES,
+            POKEDEX_ENTRIES, POKEDEX_ENTRIES,
+            "pokedexEntries", POKEDEX_ENTRIES
+    );
+
+    private static final Map<String, BiConsumer<PokemonResponse, PokemonResponse>> PROPERTIES = new LinkedHashMap<>();
+
+    static {
+        PROPERTIES.put("id", (from, to) -> to.setId(from.getId()));
+        PROPERTIES.put("national_dex_number", (from, to) -> to.setNationalDexNumber(from.getNationalDexNumber()));
+        PROPERTIES.put("identifier", (from, to) -> to.setIdentifier(from.getIdentifier()));
+        PROPERTIES.put("name", (from, to) -> to.setName(from.getName()));
+        PROPERTIES.put("species", (from, to) -> to.setSpecies(from.getSpecies()));
+        PROPERTIES.put("description", (from, to) -> to.setDescription(from.getDescription()));
+        PROPERTIES.put("habitat", (from, to) -> to.setHabitat(from.getHabitat()));
+        PROPERTIES.put("stats", (from, to) -> to.setStats(from.getStats()));
+        PROPERTIES.put("height", (from, to) -> to.setHeight(from.getHeight()));
+        PROPERTIES.put("weight", (from, to) -> to.setWeight(from.getWeight()));
+        PROPERTIES.put("capture_rate", (from, to) -> to.setCaptureRate(from.getCaptureRate()));
+        PROPERTIES.put("base_experience", (from, to) -> to.setBaseExperience(from.getBaseExperience()));
+        PROPERTIES.put("growth_rate", (from, to) -> to.setGrowthRate(from.getGrowthRate()));
+        PROPERTIES.put("gender_ratio", (from, to) -> to.setGenderRatio(from.getGenderRatio()));
+        PROPERTIES.put("egg_cycles", (from, to) -> to.setEggCycles(from.getEggCycles()));
+        PROPERTIES.put("color", (from, to) -> to.setColor(from.getColor()));
+        PROPERTIES.put("shape", (from, to) -> to.setShape(from.getShape()));
+        PROPERTIES.put(TYPES, (from, to) -> to.setTypes(from.getTypes()));
+        PROPERTIES.put(ABILITIES, (from, to) -> to.setAbilities(from.getAbilities()));
+        PROPERTIES.put(GENERATION, (from, to) -> to.setGeneration(from.getGeneration()));
+        PROPERTIES.put(EVOLUTIONS, (from, to) -> to.setEvolutions(from.getEvolutions()));
+        PROPERTIES.put(MOVES, (from, to) -> to.setMoves(from.getMoves()));
+        PROPERTIES.put(POKEDEX_ENTRIES, (from, to) -> to.setPokedexEntries(from.getPokedexEntries()));
+        PROPERTIES.put("language", (from, to) -> to.setLanguage(from.getLanguage()));
+        PROPERTIES.put("available_languages", (from, to) -> to.setAvailableLanguages(from.getAvailableLanguages()));
+    }
+
+    private static final Set<String> DEFAULT_PROPERTIES = PROPERTIES.keySet().stream()
+            .filter(name -> !EXPANSIONS.contains(name))
+            .collect(Collectors.toUnmodifiableSet());
+
+    public static final PokemonFields ALL = new PokemonFields(DEFAULT_PROPERTIES);
+
+    private final Set<String> names;
+
+    private PokemonFields(Collection<String> names) {
+        this.names = Collections.unmodifiableSet(new TreeSet<>(names));
+    }
+
+    /**
+     * Parses a comma separated list of fields; {@code null} or blank selects the default response.
+     */
+    public static PokemonFields parse(String fields) {
+        return parse(fields, null);
+    }
+
+    /**
+     * Parses {@code fields} and a comma separated list of relations to embed. When {@code expand} is
+     * given it replaces the default relations, so relations it leaves out are neither loaded nor
+     * rendered. Responses with evolutions, moves or Pokedex entries always carry their id.
+     */
+    public static PokemonFields parse(String fields, String expand) {
+        Set<String> names = fields == null || fields.isBlank()
+                ? new TreeSet<>(DEFAULT_PROPERTIES)
+                : parseNames(fields, PROPERTIES.keySet(), "field", Function.identity());
+
+        if (expand != null && !expand.isBlank()) {
+            Set<String> relations = parseNames(expand, EXPAND_NAMES.keySet(), "expand value", EXPAND_NAMES::get);
+            names.removeIf(RELATIONS::contains);
+            names.addAll(relations);
+        }
+        if (names.stream().anyMatch(EXPANSIONS::contains)) {
+            names.add("id");
+        }
+        return names.isEmpty() || names.equals(DEFAULT_PROPERTIES) ? ALL : new PokemonFields(names);
+    }
+
+    private static Set<String> parseNames(String list, Set<String> supported, String kind,
+                                          Function<String, String> canonical) {
+        Set<String> names = new TreeSet<>();
+        for (String item : list.split(",")) {
+            String name = item.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!supported.contains(name)) {
+                throw new IllegalArgumentException("Unsupported " + kind + ": " + name +
+                        ". Supported: " + String.join(", ", new TreeSet<>(supported)));
+            }
+            names.add(canonical.apply(name));
+        }
+        return names;
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Whether relations beyond the default response were requested, which are loaded on demand.
+     */
+    public boolean hasExpansions() {
+        return names.stream().anyMatch(EXPANSIONS::contains);
+    }
+
+    /**
+     * Suffix that keeps cached projections apart from full responses, which use no suffix.
+     */
+    public String cacheKeySuffix() {
+        return isAll() ? "" : "_" + String.join(",", names);
+    }
+
+    /**
+     * Copy of {@code response} holding only the requested properties; full responses are returned
+     * as-is. Shared responses are never modified.
+     */
+    public PokemonResponse project(PokemonResponse response) {
+        if (isAll() || response == null) {
+            return response;
+        }
+
+        PokemonResponse projected = new PokemonResponse();
+        for (String name : names) {
+            PROPERTIES.get(name).accept(response, projected);
+        }
+        return projected;
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", names);
+    }
+}
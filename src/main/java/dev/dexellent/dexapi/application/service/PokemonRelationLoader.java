@@ -0,0 +1,105 @@
+package dev.dexellent.dexapi.application.service;
+
+import dev.dexellent.dexapi.domain.model.*;
+import dev.dexellent.dexapi.domain.repository.GenerationRepository;
+import dev.dexellent.dexapi.domain.repository.PokemonExpansions;
+import dev.dexellent.dexapi.domain.repository.PokemonListRow;
+import dev.dexellent.dexapi.domain.repository.PokemonRelations;
+import dev.dexellent.dexapi.domain.repository.PokemonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the relations rendered in a {@code PokemonResponse} for any number of Pokemon with a
+ * fixed number of queries: one for types, one for abilities and one for generations with their
+ * games. Relations requested through {@code expand=} are loaded the same way, one query each.
+ * Must be called inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class PokemonRelationLoader {
+
+    private final PokemonRepository pokemonRepository;
+    private final GenerationRepository generationRepository;
+
+    public PokemonRelations load(Collection<Pokemon> pokemon) {
+        return load(pokemon, PokemonFields.ALL);
+    }
+
+    /**
+     * Loads only the relations selected by {@code fields}; the queries for the others are skipped.
+     */
+    public PokemonRelations load(Collection<Pokemon> pokemon, PokemonFields fields) {
+        List<Long> pokemonIds = pokemon.stream()
+                .map(Pokemon::getId)
+                .toList();
+        Set<Long> generationIds = pokemon.stream()
+                .map(Pokemon::getGeneration)
+                .filter(Objects::nonNull)
+                .map(Generation::getId)
+                .collect(Collectors.toSet());
+        return load(pokemonIds, generationIds, fields);
+    }
+
+    /**
+     * Same as {@link #load(Collection, PokemonFields)} for listing rows, which carry ids instead of entities.
+     */
+    public PokemonRelations loadForRows(Collection<PokemonListRow> rows, PokemonFields fields) {
+        List<Long> pokemonIds = rows.stream()
+                .map(PokemonListRow::id)
+                .toList();
+        Set<Long> generationIds = rows.stream()
+                .map(PokemonListRow::generationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return load(pokemonIds, generationIds, fields);
+    }
+
+    private PokemonRelations load(List<Long> pokemonIds, Set<Long> generationIds, PokemonFields fields) {
+        if (pokemonIds.isEmpty()) {
+            return new PokemonRelations(Map.of(), Map.of(), Map.of());
+        }
+
+        Map<Long, List<PokemonType>> types = !fields.includes(PokemonFields.TYPES) ? Map.of() :
+                pokemonRepository.findTypesByPokemonIds(pokemonIds).stream()
+                        .collect(Collectors.groupingBy(pt -> pt.getPokemon().getId()));
+        Map<Long, List<PokemonAbility>> abilities = !fields.includes(PokemonFields.ABILITIES) ? Map.of() :
+                pokemonRepository.findAbilitiesByPokemonIds(pokemonIds).stream()
+                        .collect(Collectors.groupingBy(pa -> pa.getPokemon().getId()));
+        Map<Long, Generation> generations = generationIds.isEmpty() || !fields.includes(PokemonFields.GENERATION) ? Map.of() :
+                generationRepository.findAllWithGamesByIdIn(generationIds).stream()
+                        .collect(Collectors.toMap(Generation::getId, Function.identity()));
+
+        return new PokemonRelations(types, abilities, generations);
+    }
+
+    /**
+     * Loads the relations beyond the default response that {@code fields} asks for; the others stay {@code null}.
+     */
+    public PokemonExpansions loadExpansions(Collection<Long> pokemonIds, PokemonFields fields) {
+        if (pokemonIds.isEmpty()) {
+            return new PokemonExpansions(null, null, null);
+        }
+
+        Map<Long, List<Evolution>> evolutions = null;
+        if (fields.includes(PokemonFields.EVOLUTIONS)) {
+            evolutions = new HashMap<>();
+            for (Evolution evolution : pokemonRepository.findEvolutionsByPokemonIds(pokemonIds)) {
+                evolutions.computeIfAbsent(evolution.getFromPokemon().getId(), id -> new ArrayList<>()).add(evolution);
+                evolutions.computeIfAbsent(evolution.getToPokemon().getId(), id -> new ArrayList<>()).add(evolution);
+            }
+        }
+        Map<Long, List<PokemonMove>> moves = !fields.includes(PokemonFields.MOVES) ? null :
+                pokemonRepository.findMovesByPokemonIds(pokemonIds).stream()
+                        .collect(Collectors.groupingBy(pm -> pm.getPokemon().getId()));
+        Map<Long, List<PokedexEntry>> pokedexEntries = !fields.includes(PokemonFields.POKEDEX_ENTRIES) ? null :
+                pokemonRepository.findPokedexEntriesByPokemonIds(pokemonIds).stream()
+                        .collect(Collectors.groupingBy(pe -> pe.getPokemon().getId()));
+
+        return new PokemonExpansions(evolutions, moves, pokedexEntries);
+    }
+}
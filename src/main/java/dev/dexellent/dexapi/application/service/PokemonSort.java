@@ -0,0 +1,75 @@
+package dev.dexellent.dexapi.application.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Sort properties accepted by the paged searches. Pages are sorted by a single property; the
+ * snapshot keeps a precomputed permutation for each of them, so sorting never scans the dex.
+ * {@link #NAME} sorts by the name in the requested language, collated by that language's rules.
+ */
+public final class PokemonSort {
+
+    public static final String NATURAL = "nationalDexNumber";
+    public static final String NAME = "name";
+
+    public static final Set<String> PROPERTIES = Set.of(
+            "id", NATURAL, "identifier", NAME,
+            "hp", "attack", "defense", "specialAttack", "specialDefense", "speed",
+            "height", "weight", "captureRate", "baseExperience",
+            "growthRate", "genderRatio", "eggCycles", "color", "shape"
+    );
+
+    private PokemonSort() {
+    }
+
+    /**
+     * @return the only order of {@code sort}, ascending national dex order when unsorted
+     * @throws IllegalArgumentException when {@code sort} has several orders or an unsupported property
+     */
+    public static Sort.Order validate(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return Sort.Order.asc(NATURAL);
+        }
+
+        Sort.Order order = orders.next();
+        if (orders.hasNext()) {
+            throw new IllegalArgumentException("Only one sort property is supported");
+        }
+        if (!PROPERTIES.contains(order.getProperty())) {
+            throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty() +
+                    ", expected one of " + PROPERTIES);
+        }
+        return order;
+    }
+
+    /**
+     * Like {@link #validate}, but also rejects {@link #NAME}: the database would collate names by its own
+     * rules instead of the language's, so name order is only served from the snapshot.
+     */
+    public static Sort.Order validateForDatabase(Sort sort) {
+        Sort.Order order = validate(sort);
+        if (order.getProperty().equals(NAME)) {
+            throw new IllegalArgumentException("Sorting by name is only available while the dex snapshot is loaded");
+        }
+        return order;
+    }
+
+    /**
+     * Validates {@code pageable} like {@link #validateForDatabase} and breaks ties in national dex order,
+     * so offset pages neither repeat nor skip rows. Ties follow the direction of the requested order,
+     * as the snapshot walks its stable permutations backwards for descending pages.
+     */
+    public static Pageable forDatabase(Pageable pageable) {
+        Sort.Order order = validateForDatabase(pageable.getSort());
+        Sort sort = order.getProperty().equals(NATURAL)
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), NATURAL));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.repository.AttributeRange;
+import dev.dexellent.dexapi.domain.repository.RangeAttribute;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Column store of the numeric attributes: one {@code int[]} per {@link RangeAttribute}, indexed by
+ * entry ordinal and holding scaled values, with {@link RangeAttribute#ABSENT} where a value is missing.
+ * Range checks scan a contiguous primitive column and never touch boxed entity values.
+ */
+final class AttributeColumns {
+
+    private final int size;
+    private final int[][] columns;
+
+    private AttributeColumns(int size, int[][] columns) {
+        this.size = size;
+        this.columns = columns;
+    }
+
+    /**
+     * @param pokemon Pokemon in entry ordinal order
+     */
+    static AttributeColumns build(List<Pokemon> pokemon) {
+        RangeAttribute[] attributes = RangeAttribute.values();
+        int[][] columns = new int[attributes.length][pokemon.size()];
+        for (int ordinal = 0; ordinal < pokemon.size(); ordinal++) {
+            Pokemon p = pokemon.get(ordinal);
+            for (RangeAttribute attribute : attributes) {
+                columns[attribute.ordinal()][ordinal] = attribute.scaledValue(p);
+            }
+        }
+        return new AttributeColumns(pokemon.size(), columns);
+    }
+
+    /**
+     * Keeps only the ordinals of {@code selected} whose value lies within {@code range}.
+     */
+    void retain(BitSet selected, AttributeRange range) {
+        int[] column = columns[range.attribute().ordinal()];
+        long min = range.min();
+        long max = range.max();
+        long[] words = new long[(size + 63) >>> 6];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            long value = column[ordinal];
+            // Sign bit of either difference is set exactly when the value is out of range, so no branch is needed
+            long outside = ((value - min) | (max - value)) >>> 63;
+            words[ordinal >>> 6] |= (outside ^ 1L) << ordinal;
+        }
+        selected.and(BitSet.valueOf(words));
+    }
+}
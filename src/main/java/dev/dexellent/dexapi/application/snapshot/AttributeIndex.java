@@ -0,0 +1,76 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import java.util.*;
+
+/**
+ * Bitset index over categorical attributes. Each attribute value maps to the set of entry ordinals
+ * carrying it; since ordinals are dense dex positions, a set for the whole dex is about 1,000 bits
+ * and any combination of filters resolves in a few word-wise ANDs.
+ */
+final class AttributeIndex {
+
+    static final String TYPE = "type";
+    static final String GENERATION = "generation";
+    static final String GENERATION_ID = "generationId";
+    static final String COLOR = "color";
+    static final String SHAPE = "shape";
+    static final String GROWTH_RATE = "growthRate";
+
+    private static final BitSet NONE = new BitSet();
+
+    private final int size;
+    private final Map<String, Map<String, BitSet>> bitsets;
+
+    private AttributeIndex(int size, Map<String, Map<String, BitSet>> bitsets) {
+        this.size = size;
+        this.bitsets = bitsets;
+    }
+
+    static Builder builder(int size) {
+        return new Builder(size);
+    }
+
+    /**
+     * @return a new set with every ordinal selected, to be narrowed down with {@link #retain}
+     */
+    BitSet all() {
+        BitSet selected = new BitSet(size);
+        selected.set(0, size);
+        return selected;
+    }
+
+    /**
+     * Keeps only the ordinals of {@code selected} that carry {@code value} for {@code attribute}.
+     */
+    void retain(BitSet selected, String attribute, String value) {
+        selected.and(bitsets.getOrDefault(attribute, Map.of()).getOrDefault(value, NONE));
+    }
+
+    static final class Builder {
+
+        private final int size;
+        private final Map<String, Map<String, BitSet>> bitsets = new HashMap<>();
+
+        private Builder(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Marks entry {@code ordinal} as carrying {@code value}; {@code null} values are not indexed.
+         */
+        Builder add(String attribute, Object value, int ordinal) {
+            if (value != null) {
+                bitsets.computeIfAbsent(attribute, a -> new HashMap<>())
+                        .computeIfAbsent(value.toString().toLowerCase(Locale.ROOT), v -> new BitSet(size))
+                        .set(ordinal);
+            }
+            return this;
+        }
+
+        AttributeIndex build() {
+            Map<String, Map<String, BitSet>> frozen = new HashMap<>();
+            bitsets.forEach((attribute, values) -> frozen.put(attribute, Map.copyOf(values)));
+            return new AttributeIndex(size, Map.copyOf(frozen));
+        }
+    }
+}
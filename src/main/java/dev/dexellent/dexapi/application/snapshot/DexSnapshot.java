@@ -0,0 +1,505 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import dev.dexellent.dexapi.application.service.CursorPage;
+import dev.dexellent.dexapi.application.service.DexCursor;
+import dev.dexellent.dexapi.application.service.PokemonSort;
+import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.model.PokemonTranslation;
+import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.AttributeRange;
+import dev.dexellent.dexapi.domain.repository.PokemonSearchCriteria;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonSuggestionResponse;
+import dev.dexellent.dexapi.infrastructure.web.mapper.PokemonMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully materialized view of the dex used to answer reads without touching the database.
+ * Entries are kept in national dex order and every response is mapped once, per supported language,
+ * when the snapshot is built. Responses handed out are shared and must be treated as read-only.
+ */
+public final class DexSnapshot {
+
+    private static final Map<String, Comparator<PokemonResponse>> SORTABLE_PROPERTIES = Map.ofEntries(
+            Map.entry("id", by(PokemonResponse::getId)),
+            Map.entry("identifier", by(PokemonResponse::getIdentifier)),
+            Map.entry("hp", by(r -> r.getStats().getHp())),
+            Map.entry("attack", by(r -> r.getStats().getAttack())),
+            Map.entry("defense", by(r -> r.getStats().getDefense())),
+            Map.entry("specialAttack", by(r -> r.getStats().getSpecialAttack())),
+            Map.entry("specialDefense", by(r -> r.getStats().getSpecialDefense())),
+            Map.entry("speed", by(r -> r.getStats().getSpeed())),
+            Map.entry("height", by(PokemonResponse::getHeight)),
+            Map.entry("weight", by(PokemonResponse::getWeight)),
+            Map.entry("captureRate", by(PokemonResponse::getCaptureRate)),
+            Map.entry("baseExperience", by(PokemonResponse::getBaseExperience)),
+            Map.entry("growthRate", by(PokemonResponse::getGrowthRate)),
+            Map.entry("genderRatio", by(PokemonResponse::getGenderRatio)),
+            Map.entry("eggCycles", by(PokemonResponse::getEggCycles)),
+            Map.entry("color", by(PokemonResponse::getColor)),
+            Map.entry("shape", by(PokemonResponse::getShape))
+    );
+
+    private final List<Entry> entries;
+    private final Map<Long, Entry> byId;
+    private final Map<String, Entry> byIdentifier;
+    private final Map<Language, Map<String, Entry>> byName;
+    private final Map<Long, List<Entry>> byGeneration;
+    private final Map<Language, NameIndex> nameIndexes;
+    private final Map<Language, PrefixIndex> prefixIndexes;
+    private final Map<Language, FuzzyNameIndex> fuzzyIndexes;
+    private final AttributeIndex attributes;
+    private final AttributeColumns columns;
+    private final Map<String, int[]> sortOrders;
+    private final Map<Language, int[]> nameOrders;
+    private final Instant loadedAt;
+
+    private DexSnapshot(List<Entry> entries, AttributeColumns columns) {
+        this.entries = List.copyOf(entries);
+        this.columns = columns;
+        this.loadedAt = Instant.now();
+
+        Map<Long, Entry> ids = new HashMap<>();
+        Map<String, Entry> identifiers = new HashMap<>();
+        Map<Language, Map<String, Entry>> names = new EnumMap<>(Language.class);
+        Map<Long, List<Entry>> generations = new HashMap<>();
+
+        for (Entry entry : this.entries) {
+            ids.put(entry.id(), entry);
+            identifiers.put(NameIndex.normalize(entry.identifier()), entry);
+            entry.searchNames().forEach((language, name) ->
+                    names.computeIfAbsent(language, l -> new HashMap<>()).putIfAbsent(name, entry));
+            if (entry.generationId() != null) {
+                generations.computeIfAbsent(entry.generationId(), g -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        this.byId = Map.copyOf(ids);
+        this.byIdentifier = Map.copyOf(identifiers);
+        names.replaceAll((language, index) -> Map.copyOf(index));
+        this.byName = Collections.unmodifiableMap(names);
+        generations.replaceAll((generation, members) -> List.copyOf(members));
+        this.byGeneration = Map.copyOf(generations);
+
+        Map<Language, NameIndex> indexes = new EnumMap<>(Language.class);
+        Map<Language, PrefixIndex> prefixes = new EnumMap<>(Language.class);
+        Map<Language, FuzzyNameIndex> fuzzy = new EnumMap<>(Language.class);
+        for (Language language : names.keySet()) {
+            String[] namesByOrdinal = new String[this.entries.size()];
+            for (Entry entry : this.entries) {
+                namesByOrdinal[entry.ordinal()] = entry.searchNames().get(language);
+            }
+            indexes.put(language, NameIndex.build(namesByOrdinal));
+            prefixes.put(language, PrefixIndex.build(namesByOrdinal));
+            fuzzy.put(language, FuzzyNameIndex.build(namesByOrdinal));
+        }
+        this.nameIndexes = Collections.unmodifiableMap(indexes);
+        this.prefixIndexes = Collections.unmodifiableMap(prefixes);
+        this.fuzzyIndexes = Collections.unmodifiableMap(fuzzy);
+
+        AttributeIndex.Builder attributeIndex = AttributeIndex.builder(this.entries.size());
+        for (Entry entry : this.entries) {
+            // Attributes are language independent, so any language's response will do
+            PokemonResponse response = entry.response(Language.EN);
+            int ordinal = entry.ordinal();
+            attributeIndex.add(AttributeIndex.GENERATION_ID, entry.generationId(), ordinal)
+                    .add(AttributeIndex.COLOR, response.getColor(), ordinal)
+                    .add(AttributeIndex.SHAPE, response.getShape(), ordinal)
+                    .add(AttributeIndex.GROWTH_RATE, response.getGrowthRate(), ordinal);
+            if (response.getGeneration() != null) {
+                attributeIndex.add(AttributeIndex.GENERATION, response.getGeneration().getNumber(), ordinal);
+            }
+            if (response.getTypes() != null) {
+                response.getTypes().forEach(type -> attributeIndex.add(AttributeIndex.TYPE, type.getIdentifier(), ordinal));
+            }
+        }
+        this.attributes = attributeIndex.build();
+
+        // Ascending permutation of entry ordinals per sort property; the sort is stable, so ties stay in dex order
+        Map<String, int[]> orders = new HashMap<>();
+        for (String property : PokemonSort.PROPERTIES) {
+            if (property.equals(PokemonSort.NATURAL) || property.equals(PokemonSort.NAME)) {
+                continue;
+            }
+            Comparator<PokemonResponse> comparator = SORTABLE_PROPERTIES.get(property);
+            orders.put(property, this.entries.stream()
+                    .sorted(Comparator.comparing(entry -> entry.response(Language.EN), comparator))
+                    .mapToInt(Entry::ordinal)
+                    .toArray());
+        }
+        this.sortOrders = Map.copyOf(orders);
+
+        // Names are compared once here through collation keys, so name-sorted pages never compare strings
+        Map<Language, int[]> byCollation = new EnumMap<>(Language.class);
+        for (Language language : Language.values()) {
+            Collator collator = Collator.getInstance(language.toLocale());
+            CollationKey[] keys = new CollationKey[this.entries.size()];
+            for (Entry entry : this.entries) {
+                String name = entry.response(language).getName();
+                keys[entry.ordinal()] = name != null ? collator.getCollationKey(name) : null;
+            }
+            byCollation.put(language, this.entries.stream()
+                    .mapToInt(Entry::ordinal)
+                    .boxed()
+                    .sorted(Comparator.comparing(ordinal -> keys[ordinal], Comparator.nullsLast(Comparator.naturalOrder())))
+                    .mapToInt(Integer::intValue)
+                    .toArray());
+        }
+        this.nameOrders = Collections.unmodifiableMap(byCollation);
+    }
+
+    /**
+     * Builds a snapshot from fully initialized Pokemon (see {@code PokemonRepository#findAllWithDetails}).
+     */
+    public static DexSnapshot build(List<Pokemon> pokemon, PokemonMapper mapper, List<Language> languages) {
+        List<Pokemon> ordered = pokemon.stream()
+                .sorted(Comparator.comparing(Pokemon::getNationalDexNumber))
+                .toList();
+
+        List<Entry> entries = new ArrayList<>(ordered.size());
+        for (Pokemon p : ordered) {
+            List<String> availableLanguages = p.getTranslations() == null ? List.of() :
+                    p.getTranslations().stream()
+                            .map(PokemonTranslation::getLanguage)
+                            .distinct()
+                            .sorted()
+                            .map(Language::getCode)
+                            .toList();
+
+            Map<Language, PokemonResponse> responses = new EnumMap<>(Language.class);
+            for (Language language : languages) {
+                PokemonResponse response = mapper.toResponse(p, language);
+                response.setAvailableLanguages(availableLanguages);
+                responses.put(language, response);
+            }
+
+            Map<Language, String> searchNames = new EnumMap<>(Language.class);
+            if (p.getTranslations() != null) {
+                for (PokemonTranslation translation : p.getTranslations()) {
+                    searchNames.put(translation.getLanguage(), NameIndex.normalize(translation.getName()));
+                }
+            }
+
+            entries.add(new Entry(
+                    entries.size(),
+                    p.getId(),
+                    p.getNationalDexNumber(),
+                    p.getIdentifier(),
+                    p.getGeneration() != null ? p.getGeneration().getId() : null,
+                    Collections.unmodifiableMap(responses),
+                    Collections.unmodifiableMap(searchNames),
+                    availableLanguages
+            ));
+        }
+
+        return new DexSnapshot(entries, AttributeColumns.build(ordered));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<PokemonResponse> findById(Long id, Language language) {
+        return Optional.ofNullable(byId.get(id)).map(entry -> entry.response(language));
+    }
+
+    /**
+     * Responses in every language the snapshot was built for, keyed by language.
+     */
+    public Optional<Map<Language, PokemonResponse>> findByIdInAllLanguages(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(Entry::responses);
+    }
+
+    public Optional<PokemonResponse> findByIdentifier(String identifier, Language language) {
+        return Optional.ofNullable(byIdentifier.get(NameIndex.normalize(identifier))).map(entry -> entry.response(language));
+    }
+
+    public Optional<PokemonResponse> findByName(String name, Language language) {
+        return Optional.ofNullable(byName.getOrDefault(language, Map.of()).get(NameIndex.normalize(name)))
+                .map(entry -> entry.response(language));
+    }
+
+    public Page<PokemonResponse> findAll(Language language, Pageable pageable) {
+        return page(entries, language, pageable);
+    }
+
+    public CursorPage<PokemonResponse> findAll(Language language, DexCursor after, boolean descending, int size) {
+        return slice(entries, language, after, descending, size);
+    }
+
+    public void forEach(Language language, Consumer<PokemonResponse> action) {
+        for (Entry entry : entries) {
+            action.accept(entry.response(language));
+        }
+    }
+
+    public Page<PokemonResponse> searchByName(String name, Language language, Pageable pageable) {
+        return page(nameMatches(name, language), language, pageable);
+    }
+
+    /**
+     * Pokemon whose name in {@code language} starts with {@code prefix}, first in dex order first.
+     */
+    public List<PokemonSuggestionResponse> suggest(String prefix, Language language, int limit) {
+        PrefixIndex index = prefixIndexes.get(language);
+        if (index == null) {
+            return List.of();
+        }
+
+        int[] ordinals = index.top(NameIndex.normalize(prefix), limit);
+        List<PokemonSuggestionResponse> suggestions = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            suggestions.add(suggestion(entries.get(ordinal), language, null));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Pokemon whose name in {@code language} is within {@code maxDistance} edits of {@code name},
+     * closest first and then in dex order.
+     */
+    public List<PokemonSuggestionResponse> findByNameFuzzy(String name, Language language, int maxDistance, int limit) {
+        FuzzyNameIndex index = fuzzyIndexes.get(language);
+        if (index == null) {
+            return List.of();
+        }
+
+        return index.search(NameIndex.normalize(name), maxDistance).stream()
+                .limit(limit)
+                .map(match -> suggestion(entries.get(match.ordinal()), language, match.distance()))
+                .toList();
+    }
+
+    private static PokemonSuggestionResponse suggestion(Entry entry, Language language, Integer distance) {
+        return PokemonSuggestionResponse.builder()
+                .id(entry.id())
+                .nationalDexNumber(entry.nationalDexNumber())
+                .identifier(entry.identifier())
+                .name(entry.response(language).getName())
+                .distance(distance)
+                .build();
+    }
+
+    public CursorPage<PokemonResponse> searchByName(String name, Language language, DexCursor after,
+                                                    boolean descending, int size) {
+        return slice(nameMatches(name, language), language, after, descending, size);
+    }
+
+    public Page<PokemonResponse> findByGeneration(Long generationId, Language language, Pageable pageable) {
+        return page(byGeneration.getOrDefault(generationId, List.of()), language, pageable);
+    }
+
+    public CursorPage<PokemonResponse> findByGeneration(Long generationId, Language language, DexCursor after,
+                                                        boolean descending, int size) {
+        return slice(byGeneration.getOrDefault(generationId, List.of()), language, after, descending, size);
+    }
+
+    public Page<PokemonResponse> search(PokemonSearchCriteria criteria, Language language, Pageable pageable) {
+        return page(matches(criteria, language), language, pageable);
+    }
+
+    public CursorPage<PokemonResponse> search(PokemonSearchCriteria criteria, Language language, DexCursor after,
+                                              boolean descending, int size) {
+        return slice(matches(criteria, language), language, after, descending, size);
+    }
+
+    /**
+     * Responses in the order of {@code ids}, with {@code null} for ids that are not in the snapshot.
+     */
+    public List<PokemonResponse> findByIds(List<Long> ids, Language language) {
+        return ids.stream()
+                .map(byId::get)
+                .map(entry -> entry != null ? entry.response(language) : null)
+                .toList();
+    }
+
+    public List<String> findAvailableLanguages(Long pokemonId) {
+        Entry entry = byId.get(pokemonId);
+        return entry != null ? entry.availableLanguages() : List.of();
+    }
+
+    private List<Entry> nameMatches(String name, Language language) {
+        NameIndex index = nameIndexes.get(language);
+        if (index == null) {
+            return List.of();
+        }
+
+        int[] ordinals = index.search(NameIndex.normalize(name));
+        List<Entry> matches = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            matches.add(entries.get(ordinal));
+        }
+        return matches;
+    }
+
+    /**
+     * Entries matching every filter of {@code criteria}, in dex order, found by intersecting the
+     * bitsets of the requested attribute values and of the ranges evaluated over the columns. The
+     * cumulative generation filter cuts off the tail of the dex in one step.
+     */
+    private List<Entry> matches(PokemonSearchCriteria criteria, Language language) {
+        BitSet selected = attributes.all();
+        if (criteria.generationId() != null) {
+            attributes.retain(selected, AttributeIndex.GENERATION_ID, criteria.generationId().toString());
+        }
+        if (criteria.generation() != null) {
+            attributes.retain(selected, AttributeIndex.GENERATION, criteria.generation().toString());
+        }
+        if (criteria.maxNationalDexNumber() < Integer.MAX_VALUE) {
+            // Entries are in dex order, so the generations up to N are a prefix of the ordinals
+            selected.clear(firstAtOrAbove(entries, criteria.maxNationalDexNumber() + 1), entries.size());
+        }
+        for (String type : criteria.types()) {
+            attributes.retain(selected, AttributeIndex.TYPE, type);
+        }
+        if (criteria.color() != null) {
+            attributes.retain(selected, AttributeIndex.COLOR, criteria.color());
+        }
+        if (criteria.shape() != null) {
+            attributes.retain(selected, AttributeIndex.SHAPE, criteria.shape());
+        }
+        if (criteria.growthRate() != null) {
+            attributes.retain(selected, AttributeIndex.GROWTH_RATE, criteria.growthRate());
+        }
+        for (AttributeRange range : criteria.ranges().values()) {
+            columns.retain(selected, range);
+        }
+        if (criteria.name() != null && !selected.isEmpty()) {
+            BitSet named = new BitSet(entries.size());
+            for (Entry entry : nameMatches(criteria.name(), language)) {
+                named.set(entry.ordinal());
+            }
+            selected.and(named);
+        }
+
+        List<Entry> matches = new ArrayList<>(selected.cardinality());
+        for (int ordinal = selected.nextSetBit(0); ordinal >= 0; ordinal = selected.nextSetBit(ordinal + 1)) {
+            matches.add(entries.get(ordinal));
+        }
+        return matches;
+    }
+
+    /**
+     * Keyset page over entries in dex order: the cursor position is found by binary search, so
+     * every page costs the same however deep it is.
+     */
+    private static CursorPage<PokemonResponse> slice(List<Entry> matches, Language language, DexCursor after,
+                                                     boolean descending, int size) {
+        List<PokemonResponse> content = new ArrayList<>(Math.min(size, matches.size()));
+        int step = descending ? -1 : 1;
+        int index;
+        if (after == null) {
+            index = descending ? matches.size() - 1 : 0;
+        } else {
+            index = descending
+                    ? firstAtOrAbove(matches, after.nationalDexNumber()) - 1
+                    : firstAtOrAbove(matches, after.nationalDexNumber() + 1);
+        }
+
+        Entry last = null;
+        for (; index >= 0 && index < matches.size() && content.size() < size; index += step) {
+            last = matches.get(index);
+            content.add(last.response(language));
+        }
+
+        boolean hasNext = last != null && index >= 0 && index < matches.size();
+        return new CursorPage<>(content, hasNext ? DexCursor.of(last.nationalDexNumber(), last.id()).encode() : null);
+    }
+
+    private static int firstAtOrAbove(List<Entry> matches, int nationalDexNumber) {
+        int low = 0;
+        int high = matches.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (matches.get(mid).nationalDexNumber() < nationalDexNumber) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Offset page over {@code matches}, which are in dex order. Other orders walk the precomputed
+     * permutation of the sort property, so only the responses on the page are touched.
+     */
+    private Page<PokemonResponse> page(List<Entry> matches, Language language, Pageable pageable) {
+        Sort.Order order = PokemonSort.validate(pageable.getSort());
+        boolean descending = order.isDescending();
+        int total = matches.size();
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), total) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), total) : total;
+        List<PokemonResponse> content = new ArrayList<>(to - from);
+
+        if (order.getProperty().equals(PokemonSort.NATURAL)) {
+            for (int rank = from; rank < to; rank++) {
+                content.add(matches.get(descending ? total - 1 - rank : rank).response(language));
+            }
+        } else {
+            int[] permutation = order.getProperty().equals(PokemonSort.NAME)
+                    ? nameOrders.get(language)
+                    : sortOrders.get(order.getProperty());
+            if (total == entries.size()) {
+                // Every entry matches, so the page is a plain slice of the permutation
+                for (int rank = from; rank < to; rank++) {
+                    content.add(entries.get(permutation[descending ? total - 1 - rank : rank]).response(language));
+                }
+            } else {
+                BitSet members = new BitSet(entries.size());
+                for (Entry entry : matches) {
+                    members.set(entry.ordinal());
+                }
+                int rank = 0;
+                for (int i = 0; i < permutation.length && rank < to; i++) {
+                    int ordinal = permutation[descending ? permutation.length - 1 - i : i];
+                    if (members.get(ordinal)) {
+                        if (rank >= from) {
+                            content.add(entries.get(ordinal).response(language));
+                        }
+                        rank++;
+                    }
+                }
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<PokemonResponse> by(Function<PokemonResponse, T> key) {
+        // Nulls last ascending and first descending, matching PostgreSQL's default ordering
+        return Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * A single Pokemon with its responses pre-mapped per language. {@code ordinal} is the
+     * position in national dex order; {@code searchNames} holds translated names normalized for search.
+     */
+    public record Entry(int ordinal,
+                        Long id,
+                        Integer nationalDexNumber,
+                        String identifier,
+                        Long generationId,
+                        Map<Language, PokemonResponse> responses,
+                        Map<Language, String> searchNames,
+                        List<String> availableLanguages) {
+
+        public PokemonResponse response(Language language) {
+            PokemonResponse response = responses.get(language);
+            return response != null ? response : responses.get(Language.EN);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import dev.dexellent.dexapi.application.service.ImportCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Owns the current {@link DexSnapshot}. The snapshot is loaded once the application is ready
+ * and replaced wholesale after every completed import; readers always see either the old or
+ * the new snapshot, never a partially built one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DexSnapshotHolder {
+
+    private final DexSnapshotLoader loader;
+
+    @Value("${dexapi.snapshot.enabled:true}")
+    private boolean enabled;
+
+    private volatile DexSnapshot current;
+
+    /**
+     * @return the current snapshot, or {@code null} when snapshot serving is disabled or not loaded yet
+     */
+    public DexSnapshot current() {
+        return current;
+    }
+
+    public boolean isServing() {
+        return current != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    // Right after the second-level cache is cleared, so the rebuild reads the imported reference data
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onImportCompleted(ImportCompletedEvent event) {
+        if (enabled) {
+            log.info("Import from {} completed, rebuilding dex snapshot", event.source());
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        try {
+            DexSnapshot snapshot = loader.load();
+            current = snapshot;
+            log.info("Dex snapshot loaded: {} Pokemon in {} ms",
+                    snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            // Keep serving the previous snapshot (or the database when there is none)
+            log.warn("Failed to load dex snapshot: {}", e.getMessage(), e);
+        }
+    }
+}
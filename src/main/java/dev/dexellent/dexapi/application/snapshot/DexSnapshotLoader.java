@@ -0,0 +1,28 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.repository.PokemonRepository;
+import dev.dexellent.dexapi.domain.service.LanguageService;
+import dev.dexellent.dexapi.infrastructure.web.mapper.PokemonMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class DexSnapshotLoader {
+
+    private final PokemonRepository pokemonRepository;
+    private final PokemonMapper pokemonMapper;
+    private final LanguageService languageService;
+
+    // Reloads also run after an import commit; a new transaction keeps the import's persistence context out
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public DexSnapshot load() {
+        List<Pokemon> pokemon = pokemonRepository.findAllWithDetails();
+        return DexSnapshot.build(pokemon, pokemonMapper, languageService.getSupportedLanguages());
+    }
+}
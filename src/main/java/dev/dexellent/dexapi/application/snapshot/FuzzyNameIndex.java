@@ -0,0 +1,137 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import java.util.*;
+
+/**
+ * BK-tree over the names of one language, keyed by Levenshtein distance. Every child of a node sits
+ * at a known distance from it, so by the triangle inequality a query within distance {@code k} only
+ * descends into children whose distance lies within {@code k} of the node's own distance, and visits
+ * a small fraction of the names.
+ */
+final class FuzzyNameIndex {
+
+    private final Node root;
+    private final int longestName;
+
+    private FuzzyNameIndex(Node root, int longestName) {
+        this.root = root;
+        this.longestName = longestName;
+    }
+
+    /**
+     * @param names normalized names by entry ordinal, {@code null} where an entry has no name in this language
+     */
+    static FuzzyNameIndex build(String[] names) {
+        Node root = null;
+        int longestName = 0;
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            String name = names[ordinal];
+            if (name == null) {
+                continue;
+            }
+            longestName = Math.max(longestName, name.length());
+            if (root == null) {
+                root = new Node(name, ordinal);
+            } else {
+                root.add(name, ordinal);
+            }
+        }
+        return new FuzzyNameIndex(root, longestName);
+    }
+
+    /**
+     * @param query       normalized name
+     * @param maxDistance largest edit distance accepted
+     * @return matches ordered by distance, then by ordinal
+     */
+    List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        int[] previous = new int[Math.max(query.length(), longestName) + 1];
+        int[] current = new int[previous.length];
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.name, previous, current);
+            if (distance <= maxDistance) {
+                for (int ordinal : node.ordinals) {
+                    matches.add(new Match(ordinal, distance));
+                }
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparingInt(Match::ordinal));
+        return matches;
+    }
+
+    /**
+     * Levenshtein distance over two caller-provided rows, so a search allocates them only once.
+     */
+    private static int distance(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    record Match(int ordinal, int distance) {
+    }
+
+    private static final class Node {
+
+        private final String name;
+        private int[] ordinals;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String name, int ordinal) {
+            this.name = name;
+            this.ordinals = new int[]{ordinal};
+        }
+
+        private void add(String name, int ordinal) {
+            int[] previous = new int[Math.max(name.length(), this.name.length()) + 1];
+            int[] current = new int[previous.length];
+            Node node = this;
+            while (true) {
+                int distance = distance(name, node.name, previous, current);
+                if (distance == 0) {
+                    // Several Pokemon may share a name in a language
+                    node.ordinals = Arrays.copyOf(node.ordinals, node.ordinals.length + 1);
+                    node.ordinals[node.ordinals.length - 1] = ordinal;
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(name, ordinal));
+                    return;
+                }
+                node = child;
+                if (previous.length <= node.name.length()) {
+                    previous = new int[node.name.length() + 1];
+                    current = new int[previous.length];
+                }
+            }
+        }
+    }
+}
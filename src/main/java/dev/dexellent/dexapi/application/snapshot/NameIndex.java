@@ -0,0 +1,131 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import dev.dexellent.dexapi.domain.service.SearchKeys;
+
+import java.util.*;
+
+/**
+ * Substring index over the names of one language. Every name is split into its distinct n-grams
+ * of length one to three, each mapped to the sorted ordinals of the names containing it.
+ * <p>
+ * Needles of up to three characters are answered by a single posting list. Longer needles intersect
+ * the posting lists of their trigrams and then check the few remaining candidates, so no query
+ * walks all names.
+ */
+final class NameIndex {
+
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final String[] names;
+    private final Map<String, int[]> postings;
+
+    private NameIndex(String[] names, Map<String, int[]> postings) {
+        this.names = names;
+        this.postings = postings;
+    }
+
+    /**
+     * Folds names and search input the same way as the stored search keys, so that indexed names
+     * and needles compare equal.
+     */
+    static String normalize(String text) {
+        return SearchKeys.fold(text);
+    }
+
+    /**
+     * @param names normalized names by entry ordinal, {@code null} where an entry has no name in this language
+     */
+    static NameIndex build(String[] names) {
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            String name = names[ordinal];
+            if (name == null) {
+                continue;
+            }
+            Set<String> seen = new HashSet<>();
+            for (int length = 1; length <= GRAM; length++) {
+                for (int start = 0; start + length <= name.length(); start++) {
+                    String gram = name.substring(start, start + length);
+                    if (seen.add(gram)) {
+                        // Ordinals are visited in ascending order, so every posting list ends up sorted
+                        grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, ordinals) -> postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return new NameIndex(names.clone(), postings);
+    }
+
+    /**
+     * @param needle normalized search text
+     * @return ordinals of the names containing {@code needle}, in ascending order; must not be modified
+     */
+    int[] search(String needle) {
+        if (needle.isEmpty()) {
+            return allNamed();
+        }
+        if (needle.length() <= GRAM) {
+            // Every substring of up to three characters is indexed, so the posting list is exact
+            return postings.getOrDefault(needle, NONE);
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (int start = 0; start + GRAM <= needle.length(); start++) {
+            int[] list = postings.get(needle.substring(start, start + GRAM));
+            if (list == null) {
+                return NONE;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // Sharing all trigrams does not guarantee they are adjacent, so confirm each candidate
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (names[ordinal].contains(needle)) {
+                matches[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] allNamed() {
+        int[] ordinals = new int[names.length];
+        int count = 0;
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            if (names[ordinal] != null) {
+                ordinals[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(ordinals, count);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
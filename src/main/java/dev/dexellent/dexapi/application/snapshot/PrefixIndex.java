@@ -0,0 +1,86 @@
+package dev.dexellent.dexapi.application.snapshot;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Prefix index over the names of one language: normalized names sorted lexicographically, with the
+ * ordinal of their entry alongside. All names sharing a prefix form one contiguous run, found by
+ * binary search without building any intermediate strings.
+ */
+final class PrefixIndex {
+
+    private final String[] keys;
+    private final int[] ordinals;
+
+    private PrefixIndex(String[] keys, int[] ordinals) {
+        this.keys = keys;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * @param names normalized names by entry ordinal, {@code null} where an entry has no name in this language
+     */
+    static PrefixIndex build(String[] names) {
+        Integer[] order = new Integer[names.length];
+        int count = 0;
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            if (names[ordinal] != null) {
+                order[count++] = ordinal;
+            }
+        }
+        Integer[] named = Arrays.copyOf(order, count);
+        Arrays.sort(named, Comparator.<Integer, String>comparing(ordinal -> names[ordinal])
+                .thenComparing(Comparator.naturalOrder()));
+
+        String[] keys = new String[count];
+        int[] ordinals = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = names[named[i]];
+            ordinals[i] = named[i];
+        }
+        return new PrefixIndex(keys, ordinals);
+    }
+
+    /**
+     * @param prefix normalized prefix
+     * @return up to {@code limit} ordinals of names starting with {@code prefix}, lowest (first in dex order) first
+     */
+    int[] top(String prefix, int limit) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+
+        int[] best = new int[limit];
+        int count = 0;
+
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int ordinal = ordinals[i];
+            if (count == limit && ordinal >= best[limit - 1]) {
+                continue;
+            }
+            // Insertion into the small sorted buffer of the best ordinals seen so far
+            int position = count < limit ? count++ : limit - 1;
+            while (position > 0 && best[position - 1] > ordinal) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = ordinal;
+        }
+        return count == limit ? best : Arrays.copyOf(best, count);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import dev.dexellent.dexapi.domain.model.enums.Language;
@@ -14,6 +16,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = "abilities")
 @Data
 @Builder
@@ -33,6 +37,7 @@ public class Ability {
     private Generation generation;
 
     // Translations
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     @OneToMany(mappedBy = "ability", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<AbilityTranslation> translations;
 
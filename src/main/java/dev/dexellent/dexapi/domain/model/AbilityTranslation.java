@@ -5,13 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.annotations.UpdateTimestamp;
 import dev.dexellent.dexapi.domain.model.enums.Language;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = "ability_translations",
         uniqueConstraints = @UniqueConstraint(columnNames = {"ability_id", "language"}),
         indexes = {
@@ -39,9 +44,13 @@ public class AbilityTranslation {
     @Column(nullable = false, length = 100)
     private String name;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(columnDefinition = "TEXT")
     private String effect;
 
@@ -6,8 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.annotations.UpdateTimestamp;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.service.SearchKeys;
 
 import java.time.LocalDateTime;
 
@@ -40,9 +42,16 @@ public class PokemonTranslation {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // Folded name for lookups, derived from name on every write; folding can lengthen a name.
+    // Its varchar_pattern_ops index is owned by the V2 migration, JPA cannot declare operator classes
+    @Column(nullable = false, length = 150)
+    private String searchKey;
+
     @Column(length = 100)
     private String species; // e.g., "Mouse Pokémon"
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -56,4 +65,10 @@ public class PokemonTranslation {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchKey() {
+        searchKey = SearchKeys.fold(name);
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 @Getter
 @AllArgsConstructor
@@ -21,6 +22,10 @@ public enum Language {
     private final String nativeName;
     private final String englishName;
 
+    public Locale toLocale() {
+        return Locale.forLanguageTag(code);
+    }
+
     public static Language fromCode(String code) {
         if (code == null || code.trim().isEmpty()) {
             return EN;
@@ -0,0 +1,90 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Inclusive range over the scaled values of a {@link RangeAttribute}.
+ */
+public record AttributeRange(RangeAttribute attribute, int min, int max) {
+
+    // Beyond these, scaling a bound would cost time proportional to its exponent, e.g. for 1e99999999
+    private static final int MAX_INTEGER_DIGITS = 12;
+    private static final int MAX_FRACTION_DIGITS = 12;
+    private static final BigDecimal SATURATED = BigDecimal.TEN.pow(MAX_INTEGER_DIGITS);
+
+    /**
+     * Parses {@code attribute:min..max}, where either bound may be left out, e.g. {@code speed:100..},
+     * {@code hp:60..90} or {@code weight:..50}. Bounds are in the attribute's unit and may be decimal.
+     */
+    public static AttributeRange parse(String expression) {
+        int colon = expression.indexOf(':');
+        int dots = expression.indexOf("..", colon + 1);
+        if (colon < 0 || dots < 0) {
+            throw new IllegalArgumentException("Ranges must look like attribute:min..max, got: " + expression);
+        }
+
+        RangeAttribute attribute = RangeAttribute.fromParameterName(expression.substring(0, colon).strip());
+        String min = expression.substring(colon + 1, dots).strip();
+        String max = expression.substring(dots + 2).strip();
+        if (min.isEmpty() && max.isEmpty()) {
+            throw new IllegalArgumentException("Range on " + attribute.getParameterName() + " needs at least one bound");
+        }
+
+        // Rounding inwards keeps the range inclusive of exactly the values between the given bounds
+        return new AttributeRange(attribute,
+                min.isEmpty() ? RangeAttribute.ABSENT + 1 : attribute.scale(bound(min), RoundingMode.CEILING),
+                max.isEmpty() ? Integer.MAX_VALUE : attribute.scale(bound(max), RoundingMode.FLOOR));
+    }
+
+    /**
+     * Range matching every value, including {@link RangeAttribute#ABSENT}.
+     */
+    public static AttributeRange unbounded(RangeAttribute attribute) {
+        return new AttributeRange(attribute, RangeAttribute.ABSENT, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Whether any value is excluded; only unbounded ranges match {@link RangeAttribute#ABSENT}.
+     */
+    public boolean bounded() {
+        return min > RangeAttribute.ABSENT || max < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Values matching both ranges.
+     */
+    public AttributeRange intersect(AttributeRange other) {
+        return new AttributeRange(attribute, Math.max(min, other.min), Math.min(max, other.max));
+    }
+
+    @Override
+    public String toString() {
+        return attribute.getParameterName() + ":" + min + ".." + max;
+    }
+
+    /**
+     * Parses a bound, saturating values far outside the int range, which {@link RangeAttribute#scale}
+     * clamps anyway, before any arithmetic depends on their exponent.
+     */
+    private static BigDecimal bound(String value) {
+        BigDecimal bound;
+        try {
+            bound = new BigDecimal(value).stripTrailingZeros();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid range bound: " + value);
+        }
+        if (bound.signum() == 0) {
+            // Also drops the exponent of inputs like 0e99999999
+            return BigDecimal.ZERO;
+        }
+        if (bound.precision() - bound.scale() > MAX_INTEGER_DIGITS) {
+            return bound.signum() > 0 ? SATURATED : SATURATED.negate();
+        }
+        if (bound.scale() > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Range bounds take at most " + MAX_FRACTION_DIGITS +
+                    " decimals, got: " + value);
+        }
+        return bound;
+    }
+}
@@ -4,6 +4,7 @@ import dev.dexellent.dexapi.domain.model.Generation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,6 @@ public interface GenerationRepository {
     boolean existsByNumber(Integer number);
 
     List<Generation> findByOrderByNumberAsc();
+
+    List<Generation> findAllWithGamesByIdIn(Collection<Long> ids);
 }
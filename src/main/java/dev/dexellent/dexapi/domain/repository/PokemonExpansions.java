@@ -0,0 +1,30 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import dev.dexellent.dexapi.domain.model.Evolution;
+import dev.dexellent.dexapi.domain.model.PokedexEntry;
+import dev.dexellent.dexapi.domain.model.PokemonMove;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relations requested through {@code expand=} on top of the default response, keyed by Pokemon id
+ * and loaded along with the default relations. A {@code null} map means the relation
+ * was not requested and is left out of the response; evolutions are listed under both Pokemon they link.
+ */
+public record PokemonExpansions(Map<Long, List<Evolution>> evolutions,
+                                Map<Long, List<PokemonMove>> moves,
+                                Map<Long, List<PokedexEntry>> pokedexEntries) {
+
+    public List<Evolution> evolutionsOf(Long pokemonId) {
+        return evolutions != null ? evolutions.getOrDefault(pokemonId, List.of()) : null;
+    }
+
+    public List<PokemonMove> movesOf(Long pokemonId) {
+        return moves != null ? moves.getOrDefault(pokemonId, List.of()) : null;
+    }
+
+    public List<PokedexEntry> pokedexEntriesOf(Long pokemonId) {
+        return pokedexEntries != null ? pokedexEntries.getOrDefault(pokemonId, List.of()) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only row of a Pokemon listing in one language, selected as a flat projection instead of a
+ * managed entity. The localized values are already resolved the way
+ * {@code Pokemon.getTranslationOrDefault} does: the requested language, else English, else the
+ * identifier for the name and the shape for the habitat. The description is selected as a plain
+ * column, so its lazy {@code "text"} group never comes into play, and list pages keep the same
+ * fields whether the snapshot or the database serves them.
+ */
+public record PokemonListRow(Long id,
+                             Integer nationalDexNumber,
+                             String identifier,
+                             Long generationId,
+                             Integer hp,
+                             Integer attack,
+                             Integer defense,
+                             Integer specialAttack,
+                             Integer specialDefense,
+                             Integer speed,
+                             BigDecimal height,
+                             BigDecimal weight,
+                             Integer captureRate,
+                             Integer baseExperience,
+                             String growthRate,
+                             String genderRatio,
+                             Integer eggCycles,
+                             String color,
+                             String shape,
+                             String name,
+                             String species,
+                             String description,
+                             String habitat) {
+}
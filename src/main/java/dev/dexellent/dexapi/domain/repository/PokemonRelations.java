@@ -0,0 +1,36 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import dev.dexellent.dexapi.domain.model.Generation;
+import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.model.PokemonAbility;
+import dev.dexellent.dexapi.domain.model.PokemonType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relations of a set of Pokemon, loaded up front by the application layer so that mapping
+ * never falls back to lazy loading. Types and abilities are keyed by Pokemon id, generations by
+ * generation id.
+ */
+public record PokemonRelations(Map<Long, List<PokemonType>> types,
+                               Map<Long, List<PokemonAbility>> abilities,
+                               Map<Long, Generation> generations) {
+
+    public List<PokemonType> typesOf(Long pokemonId) {
+        return types.getOrDefault(pokemonId, List.of());
+    }
+
+    public List<PokemonAbility> abilitiesOf(Long pokemonId) {
+        return abilities.getOrDefault(pokemonId, List.of());
+    }
+
+    public Generation generationOf(Pokemon pokemon) {
+        // Reading the id of a lazy association does not initialize it
+        return pokemon.getGeneration() != null ? generationOf(pokemon.getGeneration().getId()) : null;
+    }
+
+    public Generation generationOf(Long generationId) {
+        return generationId != null ? generations.get(generationId) : null;
+    }
+}
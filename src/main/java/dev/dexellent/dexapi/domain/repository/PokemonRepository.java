@@ -1,17 +1,34 @@
 package dev.dexellent.dexapi.domain.repository;
 
+import dev.dexellent.dexapi.domain.model.Evolution;
+import dev.dexellent.dexapi.domain.model.PokedexEntry;
 import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.model.PokemonAbility;
+import dev.dexellent.dexapi.domain.model.PokemonMove;
+import dev.dexellent.dexapi.domain.model.PokemonTranslation;
+import dev.dexellent.dexapi.domain.model.PokemonType;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PokemonRepository {
     Optional<Pokemon> findById(Long id);
 
-    Optional<Pokemon> findByIdWithTranslations(Long id, Language language);
+    /**
+     * Loads a Pokemon with translations in every language and its generation.
+     */
+    Optional<Pokemon> findByIdWithAllTranslations(Long id);
+
+    /**
+     * Loads the given Pokemon with translations in every language and their generations, in no particular order.
+     */
+    List<Pokemon> findByIdsWithAllTranslations(Collection<Long> ids);
 
     Optional<Pokemon> findByNationalDexNumber(Integer nationalDexNumber);
 
@@ -21,13 +38,82 @@ public interface PokemonRepository {
 
     Page<Pokemon> findAll(Pageable pageable);
 
-    Page<Pokemon> findAllWithTranslations(Language language, Pageable pageable);
-
-    Page<Pokemon> findByNameContainingInLanguage(String name, Language language, Pageable pageable);
-
-    Page<Pokemon> findByGenerationId(Long generationId, Language language, Pageable pageable);
-
-    List<Pokemon> findByIds(List<Long> ids, Language language);
+    /**
+     * Translations in {@code language} whose name starts with {@code prefix}, with their Pokemon, in dex order.
+     */
+    List<PokemonTranslation> findTranslationsByNamePrefix(String prefix, Language language, Limit limit);
+
+    /**
+     * Paged lookups return ids only, paged and counted in the database; the rows of a page are
+     * loaded afterwards with {@link #findListRowsByIds}.
+     */
+    Page<Long> findAllIds(Pageable pageable);
+
+    Page<Long> findIdsByNameContainingInLanguage(String name, Language language, Pageable pageable);
+
+    Page<Long> findIdsByGenerationId(Long generationId, Pageable pageable);
+
+    /**
+     * Flat, unmanaged rows of the given Pokemon in {@code language}, in no particular order, selected
+     * in one query without loading entities or their translation collections.
+     */
+    List<PokemonListRow> findListRowsByIds(Collection<Long> ids, Language language);
+
+    /**
+     * Keyset lookups: ids of Pokemon whose national dex number lies strictly between {@code after}
+     * and {@code before}, in {@code sort} order, without a count query.
+     */
+    List<Long> findIdsInDexRange(int after, int before, Sort sort, Limit limit);
+
+    List<Long> findIdsByGenerationIdInDexRange(Long generationId, int after, int before, Sort sort, Limit limit);
+
+    List<Long> findIdsByNameContainingInDexRange(String name, Language language, int after, int before,
+                                                 Sort sort, Limit limit);
+
+    /**
+     * Ids of Pokemon matching every filter of {@code criteria}, paged and counted in the database.
+     */
+    Page<Long> findIdsByCriteria(PokemonSearchCriteria criteria, Language language, Pageable pageable);
+
+    List<Long> findIdsByCriteriaInDexRange(PokemonSearchCriteria criteria, Language language, int after, int before,
+                                           Sort sort, Limit limit);
+
+    /**
+     * Loads every Pokemon with all translations, types, abilities and generations initialized,
+     * using a fixed number of queries. Must be called inside a transaction.
+     */
+    List<Pokemon> findAllWithDetails();
+
+    /**
+     * Loads the type slots of the given Pokemon with their types and type translations in one query.
+     */
+    List<PokemonType> findTypesByPokemonIds(Collection<Long> pokemonIds);
+
+    /**
+     * Loads the ability slots of the given Pokemon with their abilities and ability translations in one query.
+     */
+    List<PokemonAbility> findAbilitiesByPokemonIds(Collection<Long> pokemonIds);
+
+    /**
+     * Loads the evolutions starting or ending at the given Pokemon, with both ends, in one query.
+     */
+    List<Evolution> findEvolutionsByPokemonIds(Collection<Long> pokemonIds);
+
+    /**
+     * Loads the learnable moves of the given Pokemon with their moves, move types and move translations in one query.
+     */
+    List<PokemonMove> findMovesByPokemonIds(Collection<Long> pokemonIds);
+
+    /**
+     * Loads the Pokedex entries of the given Pokemon with their Pokedexes in one query.
+     */
+    List<PokedexEntry> findPokedexEntriesByPokemonIds(Collection<Long> pokemonIds);
+
+    /**
+     * Detaches every entity loaded so far in the current persistence context, so long-running reads
+     * processed in chunks keep a flat memory footprint.
+     */
+    void clearLoaded();
 
     Pokemon save(Pokemon pokemon);
 
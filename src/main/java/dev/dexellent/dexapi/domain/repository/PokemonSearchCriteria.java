@@ -0,0 +1,81 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import dev.dexellent.dexapi.domain.service.GenerationDexRanges;
+
+import java.util.*;
+
+/**
+ * Combined search filters. Every filter that is set must match; {@code types} requires all of the
+ * listed types, {@code upToGeneration} keeps Pokemon introduced in that generation or earlier and
+ * {@code ranges} holds at most one range per attribute. Text values are lower-cased to match the
+ * stored identifiers and attributes.
+ */
+public record PokemonSearchCriteria(String name,
+                                    Long generationId,
+                                    Integer generation,
+                                    Integer upToGeneration,
+                                    Set<String> types,
+                                    String color,
+                                    String shape,
+                                    String growthRate,
+                                    Map<RangeAttribute, AttributeRange> ranges) {
+
+    public static PokemonSearchCriteria of(String name, Long generationId, Integer generation, Integer upToGeneration,
+                                           List<String> types, String color, String shape, String growthRate,
+                                           List<String> ranges) {
+        if (upToGeneration != null) {
+            GenerationDexRanges.lastDexNumber(upToGeneration);
+        }
+        Set<String> typeSet = new TreeSet<>();
+        if (types != null) {
+            types.stream()
+                    .map(PokemonSearchCriteria::clean)
+                    .filter(Objects::nonNull)
+                    .forEach(typeSet::add);
+        }
+        Map<RangeAttribute, AttributeRange> rangeMap = new EnumMap<>(RangeAttribute.class);
+        if (ranges != null) {
+            ranges.stream()
+                    .filter(range -> range != null && !range.isBlank())
+                    .map(AttributeRange::parse)
+                    .forEach(range -> rangeMap.merge(range.attribute(), range, AttributeRange::intersect));
+        }
+        return new PokemonSearchCriteria(name == null || name.isBlank() ? null : name.trim(), generationId,
+                generation, upToGeneration, Set.copyOf(typeSet), clean(color), clean(shape), clean(growthRate),
+                Collections.unmodifiableMap(rangeMap));
+    }
+
+    /**
+     * @return the range on {@code attribute}, unbounded when it is not filtered
+     */
+    public AttributeRange range(RangeAttribute attribute) {
+        return ranges.getOrDefault(attribute, AttributeRange.unbounded(attribute));
+    }
+
+    /**
+     * @return the highest national dex number allowed by {@code upToGeneration}, {@link Integer#MAX_VALUE}
+     * when it is not set
+     */
+    public int maxNationalDexNumber() {
+        return upToGeneration == null ? Integer.MAX_VALUE : GenerationDexRanges.lastDexNumber(upToGeneration);
+    }
+
+    /**
+     * Whether any filter beyond the name and generation id, which have dedicated queries, is set.
+     */
+    public boolean hasAttributes() {
+        return generation != null || upToGeneration != null || !types.isEmpty() || color != null || shape != null || growthRate != null
+                || !ranges.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "name=" + name + "&generationId=" + generationId + "&generation=" + generation +
+                "&upToGeneration=" + upToGeneration + "&type=" + new TreeSet<>(types) + "&color=" + color +
+                "&shape=" + shape + "&growthRate=" + growthRate + "&range=" + ranges.values();
+    }
+
+    private static String clean(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,79 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import dev.dexellent.dexapi.domain.model.Pokemon;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Numeric attributes that can be filtered by range. Values are compared as ints: decimal attributes
+ * are scaled by their number of stored decimals, so height is in centimetres and weight in grams.
+ */
+public enum RangeAttribute {
+    HP("hp", 0, Pokemon::getHp),
+    ATTACK("attack", 0, Pokemon::getAttack),
+    DEFENSE("defense", 0, Pokemon::getDefense),
+    SPECIAL_ATTACK("specialAttack", 0, Pokemon::getSpecialAttack),
+    SPECIAL_DEFENSE("specialDefense", 0, Pokemon::getSpecialDefense),
+    SPEED("speed", 0, Pokemon::getSpeed),
+    BASE_EXPERIENCE("baseExperience", 0, Pokemon::getBaseExperience),
+    CAPTURE_RATE("captureRate", 0, Pokemon::getCaptureRate),
+    HEIGHT("height", 2, Pokemon::getHeight),
+    WEIGHT("weight", 3, Pokemon::getWeight);
+
+    /**
+     * Scaled value of a missing attribute. It lies below every range that has a bound, so Pokemon
+     * without a value only match when the attribute is not filtered.
+     */
+    public static final int ABSENT = Integer.MIN_VALUE;
+
+    private final String parameterName;
+    private final int decimals;
+    private final Function<Pokemon, Number> getter;
+
+    RangeAttribute(String parameterName, int decimals, Function<Pokemon, Number> getter) {
+        this.parameterName = parameterName;
+        this.decimals = decimals;
+        this.getter = getter;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static RangeAttribute fromParameterName(String parameterName) {
+        return Arrays.stream(values())
+                .filter(attribute -> attribute.parameterName.equals(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported range attribute: " + parameterName));
+    }
+
+    /**
+     * @return the scaled value of this attribute for {@code pokemon}, or {@link #ABSENT}
+     */
+    public int scaledValue(Pokemon pokemon) {
+        Number value = getter.apply(pokemon);
+        if (value == null) {
+            return ABSENT;
+        }
+        return scale(value instanceof BigDecimal decimal ? decimal : BigDecimal.valueOf(value.longValue()),
+                RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Scales a bound given in the attribute's unit, rounding with {@code rounding} and clamping to the
+     * int range above {@link #ABSENT}.
+     */
+    int scale(BigDecimal value, RoundingMode rounding) {
+        BigDecimal scaled = value.movePointRight(decimals).setScale(0, rounding);
+        if (scaled.compareTo(BigDecimal.valueOf(ABSENT + 1L)) < 0) {
+            return ABSENT + 1;
+        }
+        if (scaled.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+            return Integer.MAX_VALUE;
+        }
+        return scaled.intValue();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.dexellent.dexapi.domain.service;
+
+/**
+ * National dex numbers are assigned in contiguous blocks per generation, so "introduced up to
+ * generation N" is the dex number range {@code 1..lastDexNumber(N)}. The latest generation is open
+ * ended and also takes any number above the last known boundary.
+ */
+public final class GenerationDexRanges {
+
+    // Last national dex number of generations 1 to 8
+    private static final int[] LAST_DEX_NUMBERS = {151, 251, 386, 493, 649, 721, 809, 905};
+
+    private GenerationDexRanges() {
+    }
+
+    /**
+     * @return the generation that introduced {@code nationalDexNumber}
+     */
+    public static int generationOf(int nationalDexNumber) {
+        for (int i = 0; i < LAST_DEX_NUMBERS.length; i++) {
+            if (nationalDexNumber <= LAST_DEX_NUMBERS[i]) {
+                return i + 1;
+            }
+        }
+        return LAST_DEX_NUMBERS.length + 1;
+    }
+
+    /**
+     * @return the highest national dex number introduced up to {@code generation}, or
+     * {@link Integer#MAX_VALUE} from the latest generation on
+     * @throws IllegalArgumentException when {@code generation} is below 1
+     */
+    public static int lastDexNumber(int generation) {
+        if (generation < 1) {
+            throw new IllegalArgumentException("Generation must be at least 1, got " + generation);
+        }
+        return generation <= LAST_DEX_NUMBERS.length ? LAST_DEX_NUMBERS[generation - 1] : Integer.MAX_VALUE;
+    }
+}
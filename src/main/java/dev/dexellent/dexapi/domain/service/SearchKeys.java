@@ -0,0 +1,47 @@
+package dev.dexellent.dexapi.domain.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds names into search keys, so that variants a user may type compare equal:
+ * <ul>
+ *     <li>compatibility forms (full-width letters, half-width katakana) become their standard form (NFKD)</li>
+ *     <li>Latin accents are dropped ("Pokémon" matches "pokemon")</li>
+ *     <li>hiragana becomes katakana (ぴかちゅう matches ピカチュウ)</li>
+ *     <li>case is folded, including ß to ss, and whitespace is collapsed</li>
+ * </ul>
+ * Stored keys and incoming queries must go through the same {@link #fold(String)}.
+ */
+public final class SearchKeys {
+
+    // Only Latin combining accents: the kana voicing marks (U+3099, U+309A) are meaningful and kept
+    private static final Pattern DIACRITICS = Pattern.compile("[\\u0300-\\u036f]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int HIRAGANA_START = 0x3041;
+    private static final int HIRAGANA_END = 0x3096;
+    private static final int KATAKANA_OFFSET = 0x60;
+
+    private SearchKeys() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+
+        StringBuilder folded = new StringBuilder(stripped.length());
+        stripped.codePoints().forEach(codePoint -> folded.appendCodePoint(
+                codePoint >= HIRAGANA_START && codePoint <= HIRAGANA_END ? codePoint + KATAKANA_OFFSET : codePoint));
+
+        String lowered = folded.toString().toLowerCase(Locale.ROOT).replace("ß", "ss");
+        // Recompose so kana and their voicing marks are stored as single characters again
+        String composed = Normalizer.normalize(lowered, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed).replaceAll(" ").strip();
+    }
+}
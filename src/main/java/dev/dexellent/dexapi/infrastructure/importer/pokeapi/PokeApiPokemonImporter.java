@@ -5,6 +5,7 @@ import dev.dexellent.dexapi.domain.model.enums.Language;
 import dev.dexellent.dexapi.domain.repository.GenerationRepository;
 import dev.dexellent.dexapi.domain.repository.PokemonRepository;
 import dev.dexellent.dexapi.domain.repository.TypeRepository;
+import dev.dexellent.dexapi.domain.service.GenerationDexRanges;
 import dev.dexellent.dexapi.infrastructure.importer.DataImporter;
 import dev.dexellent.dexapi.infrastructure.importer.ImportResult;
 import dev.dexellent.dexapi.infrastructure.importer.config.ImportConfig;
@@ -230,7 +231,7 @@ public class PokeApiPokemonImporter implements DataImporter<Pokemon> {
     private void linkGeneration(Pokemon pokemon, PokeApiSpeciesResponse speciesData) {
         if (speciesData == null || speciesData.getGeneration() == null) {
             // Fallback to generation based on national dex number
-            int genNumber = determineGenerationByDexNumber(pokemon.getNationalDexNumber());
+            int genNumber = GenerationDexRanges.generationOf(pokemon.getNationalDexNumber());
             generationRepository.findByNumber(genNumber)
                     .ifPresent(pokemon::setGeneration);
             return;
@@ -385,18 +386,6 @@ public class PokeApiPokemonImporter implements DataImporter<Pokemon> {
         pokemon.getTranslations().add(translation);
     }
 
-    private int determineGenerationByDexNumber(int nationalDexNumber) {
-        if (nationalDexNumber <= 151) return 1;
-        if (nationalDexNumber <= 251) return 2;
-        if (nationalDexNumber <= 386) return 3;
-        if (nationalDexNumber <= 493) return 4;
-        if (nationalDexNumber <= 649) return 5;
-        if (nationalDexNumber <= 721) return 6;
-        if (nationalDexNumber <= 809) return 7;
-        if (nationalDexNumber <= 905) return 8;
-        return 9; // Gen 9 and beyond
-    }
-
     private Long extractIdFromUrl(String url) {
         if (url == null) return null;
         String[] parts = url.split("/");
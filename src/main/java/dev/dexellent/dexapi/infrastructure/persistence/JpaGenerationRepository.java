@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +66,9 @@ public class JpaGenerationRepository implements GenerationRepository {
     public List<Generation> findByOrderByNumberAsc() {
         return springDataRepository.findByOrderByNumberAsc();
     }
+
+    @Override
+    public List<Generation> findAllWithGamesByIdIn(Collection<Long> ids) {
+        return springDataRepository.findAllWithGamesByIdIn(ids);
+    }
 }
@@ -1,17 +1,31 @@
 package dev.dexellent.dexapi.infrastructure.persistence;
 
+import dev.dexellent.dexapi.domain.model.Evolution;
+import dev.dexellent.dexapi.domain.model.PokedexEntry;
 import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.model.PokemonAbility;
+import dev.dexellent.dexapi.domain.model.PokemonMove;
+import dev.dexellent.dexapi.domain.model.PokemonTranslation;
+import dev.dexellent.dexapi.domain.model.PokemonType;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.PokemonListRow;
 import dev.dexellent.dexapi.domain.repository.PokemonRepository;
+import dev.dexellent.dexapi.domain.repository.PokemonSearchCriteria;
+import dev.dexellent.dexapi.domain.service.SearchKeys;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +33,10 @@ import java.util.Optional;
 public class JpaPokemonRepository implements PokemonRepository {
 
     private final SpringDataPokemonRepository springDataRepository;
+    private final SpringDataTypeRepository springDataTypeRepository;
+    private final SpringDataAbilityRepository springDataAbilityRepository;
+    private final SpringDataGenerationRepository springDataGenerationRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Pokemon> findById(Long id) {
@@ -26,8 +44,13 @@ public class JpaPokemonRepository implements PokemonRepository {
     }
 
     @Override
-    public Optional<Pokemon> findByIdWithTranslations(Long id, Language language) {
-        return springDataRepository.findByIdWithTranslations(id, language);
+    public Optional<Pokemon> findByIdWithAllTranslations(Long id) {
+        return springDataRepository.findByIdWithAllTranslations(id);
+    }
+
+    @Override
+    public List<Pokemon> findByIdsWithAllTranslations(Collection<Long> ids) {
+        return springDataRepository.findByIdsWithAllTranslations(ids);
     }
 
     @Override
@@ -42,7 +65,7 @@ public class JpaPokemonRepository implements PokemonRepository {
 
     @Override
     public Optional<Pokemon> findByNameInLanguage(String name, Language language) {
-        return springDataRepository.findByNameInLanguage(name, language);
+        return springDataRepository.findByNameInLanguage(SearchKeys.fold(name), language);
     }
 
     @Override
@@ -51,23 +74,126 @@ public class JpaPokemonRepository implements PokemonRepository {
     }
 
     @Override
-    public Page<Pokemon> findAllWithTranslations(Language language, Pageable pageable) {
-        return springDataRepository.findAllWithTranslations(language, pageable);
+    public List<PokemonTranslation> findTranslationsByNamePrefix(String prefix, Language language, Limit limit) {
+        return springDataRepository.findTranslationsByNamePrefix(likeKey(prefix), language, limit);
+    }
+
+    @Override
+    public Page<Long> findAllIds(Pageable pageable) {
+        return springDataRepository.findAllIds(pageable);
+    }
+
+    @Override
+    public Page<Long> findIdsByNameContainingInLanguage(String name, Language language, Pageable pageable) {
+        return springDataRepository.findIdsByNameContainingInLanguage(likeKey(name), language, pageable);
+    }
+
+    @Override
+    public Page<Long> findIdsByGenerationId(Long generationId, Pageable pageable) {
+        return springDataRepository.findIdsByGenerationId(generationId, pageable);
+    }
+
+    @Override
+    public List<PokemonListRow> findListRowsByIds(Collection<Long> ids, Language language) {
+        return springDataRepository.findListRowsByIds(ids, language);
+    }
+
+    @Override
+    public List<Long> findIdsInDexRange(int after, int before, Sort sort, Limit limit) {
+        return springDataRepository.findIdsInDexRange(after, before, sort, limit);
+    }
+
+    @Override
+    public List<Long> findIdsByGenerationIdInDexRange(Long generationId, int after, int before, Sort sort, Limit limit) {
+        return springDataRepository.findIdsByGenerationIdInDexRange(generationId, after, before, sort, limit);
+    }
+
+    @Override
+    public List<Long> findIdsByNameContainingInDexRange(String name, Language language, int after, int before,
+                                                        Sort sort, Limit limit) {
+        return springDataRepository.findIdsByNameContainingInDexRange(likeKey(name), language, after, before, sort, limit);
+    }
+
+    @Override
+    public Page<Long> findIdsByCriteria(PokemonSearchCriteria criteria, Language language, Pageable pageable) {
+        return springDataRepository.findIdsByCriteria(searchKey(criteria), language, criteria.generationId(),
+                criteria.generation(), types(criteria), criteria.types().size(), criteria.color(), criteria.shape(),
+                criteria.growthRate(), criteria, pageable);
+    }
+
+    @Override
+    public List<Long> findIdsByCriteriaInDexRange(PokemonSearchCriteria criteria, Language language, int after,
+                                                  int before, Sort sort, Limit limit) {
+        return springDataRepository.findIdsByCriteriaInDexRange(searchKey(criteria), language,
+                criteria.generationId(), criteria.generation(), types(criteria), criteria.types().size(),
+                criteria.color(), criteria.shape(), criteria.growthRate(), criteria, after, before, sort, limit);
+    }
+
+    private static String searchKey(PokemonSearchCriteria criteria) {
+        return likeKey(criteria.name());
+    }
+
+    /**
+     * Folds a name into a search key for the {@code LIKE ... ESCAPE '\'} queries, escaping the
+     * characters LIKE would otherwise treat as wildcards.
+     */
+    private static String likeKey(String name) {
+        String searchKey = SearchKeys.fold(name);
+        if (searchKey == null) {
+            return null;
+        }
+        return searchKey.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private static Collection<String> types(PokemonSearchCriteria criteria) {
+        // An empty IN list is not valid SQL; the placeholder is never compared while typeCount is zero
+        return criteria.types().isEmpty() ? Set.of("") : criteria.types();
+    }
+
+    @Override
+    public List<Pokemon> findAllWithDetails() {
+        // Reference data first, so the Pokemon associations resolve to already initialized instances
+        springDataGenerationRepository.findAllWithGames();
+        springDataTypeRepository.findAllWithTranslations();
+        springDataAbilityRepository.findAllWithTranslations();
+
+        // Bags cannot be fetched together, so each collection gets its own pass over the same instances
+        List<Pokemon> pokemon = springDataRepository.findAllWithAllTranslations();
+        springDataRepository.findAllWithTypes();
+        springDataRepository.findAllWithAbilities();
+        return pokemon;
+    }
+
+    @Override
+    public List<PokemonType> findTypesByPokemonIds(Collection<Long> pokemonIds) {
+        return springDataRepository.findTypesByPokemonIds(pokemonIds);
+    }
+
+    @Override
+    public List<PokemonAbility> findAbilitiesByPokemonIds(Collection<Long> pokemonIds) {
+        return springDataRepository.findAbilitiesByPokemonIds(pokemonIds);
+    }
+
+    @Override
+    public List<Evolution> findEvolutionsByPokemonIds(Collection<Long> pokemonIds) {
+        return springDataRepository.findEvolutionsByPokemonIds(pokemonIds);
     }
 
     @Override
-    public Page<Pokemon> findByNameContainingInLanguage(String name, Language language, Pageable pageable) {
-        return springDataRepository.findByNameContainingInLanguage(name, language, pageable);
+    public List<PokemonMove> findMovesByPokemonIds(Collection<Long> pokemonIds) {
+        return springDataRepository.findMovesByPokemonIds(pokemonIds);
     }
 
     @Override
-    public Page<Pokemon> findByGenerationId(Long generationId, Language language, Pageable pageable) {
-        return springDataRepository.findByGenerationId(generationId, language, pageable);
+    public List<PokedexEntry> findPokedexEntriesByPokemonIds(Collection<Long> pokemonIds) {
+        return springDataRepository.findPokedexEntriesByPokemonIds(pokemonIds);
     }
 
     @Override
-    public List<Pokemon> findByIds(List<Long> ids, Language language) {
-        return springDataRepository.findByIds(ids, language);
+    public void clearLoaded() {
+        entityManager.clear();
     }
 
     @Override
@@ -0,0 +1,19 @@
+package dev.dexellent.dexapi.infrastructure.persistence;
+
+import dev.dexellent.dexapi.domain.model.Ability;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+interface SpringDataAbilityRepository extends JpaRepository<Ability, Long> {
+
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = {"translations.description", "translations.effect"})
+    @Query("""
+        SELECT DISTINCT a FROM Ability a 
+        LEFT JOIN FETCH a.translations
+        """)
+    List<Ability> findAllWithTranslations();
+}
@@ -1,7 +1,13 @@
 package dev.dexellent.dexapi.infrastructure.persistence;
 
 import dev.dexellent.dexapi.domain.model.Generation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +18,19 @@ interface SpringDataGenerationRepository extends org.springframework.data.jpa.re
 
     boolean existsByNumber(Integer number);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Generation> findByOrderByNumberAsc();
+
+    @Query("""
+        SELECT DISTINCT g FROM Generation g 
+        LEFT JOIN FETCH g.games
+        """)
+    List<Generation> findAllWithGames();
+
+    @Query("""
+        SELECT DISTINCT g FROM Generation g 
+        LEFT JOIN FETCH g.games 
+        WHERE g.id IN :ids
+        """)
+    List<Generation> findAllWithGamesByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
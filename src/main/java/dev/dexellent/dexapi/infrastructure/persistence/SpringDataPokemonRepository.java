@@ -1,29 +1,90 @@
 package dev.dexellent.dexapi.infrastructure.persistence;
 
+import dev.dexellent.dexapi.domain.model.Evolution;
+import dev.dexellent.dexapi.domain.model.PokedexEntry;
 import dev.dexellent.dexapi.domain.model.Pokemon;
+import dev.dexellent.dexapi.domain.model.PokemonAbility;
+import dev.dexellent.dexapi.domain.model.PokemonMove;
+import dev.dexellent.dexapi.domain.model.PokemonTranslation;
+import dev.dexellent.dexapi.domain.model.PokemonType;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.PokemonListRow;
+import dev.dexellent.dexapi.domain.repository.PokemonSearchCriteria;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 interface SpringDataPokemonRepository extends JpaRepository<Pokemon, Long> {
 
+    /**
+     * Every filter is optional: a {@code null} parameter, a {@code typeCount} of zero or an unbounded
+     * range matches all Pokemon, so one statement serves every combination of filters. Ranges compare
+     * scaled ints, see {@link dev.dexellent.dexapi.domain.repository.RangeAttribute}.
+     */
+    String MATCHES_CRITERIA = """
+        (:generationId IS NULL OR p.generation.id = :generationId) 
+        AND (:generation IS NULL OR g.number = :generation) 
+        AND p.nationalDexNumber <= :#{#criteria.maxNationalDexNumber()} 
+        AND (:color IS NULL OR LOWER(p.color) = :color) 
+        AND (:shape IS NULL OR LOWER(p.shape) = :shape) 
+        AND (:growthRate IS NULL OR LOWER(p.growthRate) = :growthRate) 
+        AND (:typeCount = 0 OR :typeCount = (
+            SELECT COUNT(DISTINCT pt.type.id) FROM PokemonType pt 
+            WHERE pt.pokemon = p 
+            AND pt.type.identifier IN :types
+        )) 
+        AND (:searchKey IS NULL OR EXISTS (
+            SELECT 1 FROM PokemonTranslation t 
+            WHERE t.pokemon = p 
+            AND t.language = :language 
+            AND t.searchKey LIKE CONCAT('%', :searchKey, '%') ESCAPE '\\'
+        )) 
+        AND p.hp BETWEEN :#{#criteria.range('HP').min()} AND :#{#criteria.range('HP').max()} 
+        AND p.attack BETWEEN :#{#criteria.range('ATTACK').min()} AND :#{#criteria.range('ATTACK').max()} 
+        AND p.defense BETWEEN :#{#criteria.range('DEFENSE').min()} AND :#{#criteria.range('DEFENSE').max()} 
+        AND p.specialAttack BETWEEN :#{#criteria.range('SPECIAL_ATTACK').min()} AND :#{#criteria.range('SPECIAL_ATTACK').max()} 
+        AND p.specialDefense BETWEEN :#{#criteria.range('SPECIAL_DEFENSE').min()} AND :#{#criteria.range('SPECIAL_DEFENSE').max()} 
+        AND p.speed BETWEEN :#{#criteria.range('SPEED').min()} AND :#{#criteria.range('SPEED').max()} 
+        AND (p.baseExperience BETWEEN :#{#criteria.range('BASE_EXPERIENCE').min()} AND :#{#criteria.range('BASE_EXPERIENCE').max()} 
+            OR (p.baseExperience IS NULL AND :#{#criteria.range('BASE_EXPERIENCE').bounded()} = false)) 
+        AND (p.captureRate BETWEEN :#{#criteria.range('CAPTURE_RATE').min()} AND :#{#criteria.range('CAPTURE_RATE').max()} 
+            OR (p.captureRate IS NULL AND :#{#criteria.range('CAPTURE_RATE').bounded()} = false)) 
+        AND (p.height * 100 BETWEEN :#{#criteria.range('HEIGHT').min()} AND :#{#criteria.range('HEIGHT').max()} 
+            OR (p.height IS NULL AND :#{#criteria.range('HEIGHT').bounded()} = false)) 
+        AND (p.weight * 1000 BETWEEN :#{#criteria.range('WEIGHT').min()} AND :#{#criteria.range('WEIGHT').max()} 
+            OR (p.weight IS NULL AND :#{#criteria.range('WEIGHT').bounded()} = false))
+        """;
+
+    // Descriptions are lazy; the queries whose results render them load them in the same statement
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
     @Query("""
         SELECT DISTINCT p FROM Pokemon p 
-        LEFT JOIN FETCH p.translations t 
-        LEFT JOIN FETCH p.types pt 
-        LEFT JOIN FETCH pt.type 
-        WHERE p.id = :id 
-        AND (t.language = :language OR t.language = 'EN' OR t IS NULL)
+        LEFT JOIN FETCH p.translations 
+        LEFT JOIN FETCH p.generation 
+        WHERE p.id = :id
         """)
-    Optional<Pokemon> findByIdWithTranslations(@Param("id") Long id,
-                                               @Param("language") Language language);
+    Optional<Pokemon> findByIdWithAllTranslations(@Param("id") Long id);
 
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
+    @Query("""
+        SELECT DISTINCT p FROM Pokemon p 
+        LEFT JOIN FETCH p.translations 
+        LEFT JOIN FETCH p.generation 
+        WHERE p.id IN :ids
+        """)
+    List<Pokemon> findByIdsWithAllTranslations(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
     @Query("""
         SELECT DISTINCT p FROM Pokemon p 
         LEFT JOIN FETCH p.translations t 
@@ -31,67 +92,240 @@ interface SpringDataPokemonRepository extends JpaRepository<Pokemon, Long> {
         """)
     Optional<Pokemon> findByNationalDexNumber(@Param("nationalDexNumber") Integer nationalDexNumber);
 
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
     @Query("""
         SELECT DISTINCT p FROM Pokemon p 
         LEFT JOIN FETCH p.translations t 
+        LEFT JOIN FETCH p.generation 
         WHERE p.identifier = :identifier
         """)
     Optional<Pokemon> findByIdentifier(@Param("identifier") String identifier);
 
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
     @Query("""
         SELECT DISTINCT p FROM Pokemon p 
-        JOIN p.translations t 
-        WHERE LOWER(t.name) = LOWER(:name) 
-        AND t.language = :language
+        LEFT JOIN FETCH p.translations 
+        LEFT JOIN FETCH p.generation 
+        WHERE p.id IN (
+            SELECT t.pokemon.id FROM PokemonTranslation t 
+            WHERE t.searchKey = :searchKey 
+            AND t.language = :language
+        )
         """)
-    Optional<Pokemon> findByNameInLanguage(@Param("name") String name,
+    Optional<Pokemon> findByNameInLanguage(@Param("searchKey") String searchKey,
                                            @Param("language") Language language);
 
-    @Query(value = """
-        SELECT DISTINCT p FROM Pokemon p 
-        LEFT JOIN FETCH p.translations t 
-        WHERE (t.language = :language OR t.language = 'EN' OR t IS NULL)
-        """,
-            countQuery = "SELECT COUNT(DISTINCT p) FROM Pokemon p")
-    Page<Pokemon> findAllWithTranslations(@Param("language") Language language, Pageable pageable);
+    @Query("""
+        SELECT t FROM PokemonTranslation t 
+        JOIN FETCH t.pokemon p 
+        WHERE t.language = :language 
+        AND t.searchKey LIKE CONCAT(:searchKey, '%') ESCAPE '\\'
+        ORDER BY p.nationalDexNumber
+        """)
+    List<PokemonTranslation> findTranslationsByNamePrefix(@Param("searchKey") String searchKeyPrefix,
+                                                          @Param("language") Language language,
+                                                          Limit limit);
+
+    // Paged lookups select ids only, so LIMIT and OFFSET run in the database; a collection fetch
+    // joined to a Pageable would make Hibernate read every matching row and page in memory
+    @Query(value = "SELECT p.id FROM Pokemon p",
+            countQuery = "SELECT COUNT(p) FROM Pokemon p")
+    Page<Long> findAllIds(Pageable pageable);
 
     @Query(value = """
-        SELECT DISTINCT p FROM Pokemon p 
-        JOIN p.translations t 
-        WHERE t.language = :language 
-        AND LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))
+        SELECT p.id FROM Pokemon p 
+        WHERE EXISTS (
+            SELECT 1 FROM PokemonTranslation t 
+            WHERE t.pokemon = p 
+            AND t.language = :language 
+            AND t.searchKey LIKE CONCAT('%', :searchKey, '%') ESCAPE '\\'
+        )
         """,
             countQuery = """
-        SELECT COUNT(DISTINCT p) FROM Pokemon p 
-        JOIN p.translations t 
-        WHERE t.language = :language 
-        AND LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))
+        SELECT COUNT(p) FROM Pokemon p 
+        WHERE EXISTS (
+            SELECT 1 FROM PokemonTranslation t 
+            WHERE t.pokemon = p 
+            AND t.language = :language 
+            AND t.searchKey LIKE CONCAT('%', :searchKey, '%') ESCAPE '\\'
+        )
         """)
-    Page<Pokemon> findByNameContainingInLanguage(@Param("name") String name,
+    Page<Long> findIdsByNameContainingInLanguage(@Param("searchKey") String searchKey,
                                                  @Param("language") Language language,
                                                  Pageable pageable);
 
     @Query(value = """
-        SELECT DISTINCT p FROM Pokemon p 
-        LEFT JOIN FETCH p.translations t 
-        WHERE p.generation.id = :generationId 
-        AND (t.language = :language OR t.language = 'EN' OR t IS NULL)
+        SELECT p.id FROM Pokemon p 
+        WHERE p.generation.id = :generationId
         """,
             countQuery = """
-        SELECT COUNT(DISTINCT p) FROM Pokemon p 
+        SELECT COUNT(p) FROM Pokemon p 
         WHERE p.generation.id = :generationId
         """)
-    Page<Pokemon> findByGenerationId(@Param("generationId") Long generationId,
-                                     @Param("language") Language language,
-                                     Pageable pageable);
+    Page<Long> findIdsByGenerationId(@Param("generationId") Long generationId, Pageable pageable);
 
+    @Query("""
+        SELECT p.id FROM Pokemon p 
+        WHERE p.nationalDexNumber > :after 
+        AND p.nationalDexNumber < :before
+        """)
+    List<Long> findIdsInDexRange(@Param("after") int after,
+                                 @Param("before") int before,
+                                 Sort sort,
+                                 Limit limit);
+
+    @Query("""
+        SELECT p.id FROM Pokemon p 
+        WHERE p.generation.id = :generationId 
+        AND p.nationalDexNumber > :after 
+        AND p.nationalDexNumber < :before
+        """)
+    List<Long> findIdsByGenerationIdInDexRange(@Param("generationId") Long generationId,
+                                               @Param("after") int after,
+                                               @Param("before") int before,
+                                               Sort sort,
+                                               Limit limit);
+
+    @Query("""
+        SELECT p.id FROM Pokemon p 
+        WHERE p.nationalDexNumber > :after 
+        AND p.nationalDexNumber < :before 
+        AND EXISTS (
+            SELECT 1 FROM PokemonTranslation t 
+            WHERE t.pokemon = p 
+            AND t.language = :language 
+            AND t.searchKey LIKE CONCAT('%', :searchKey, '%') ESCAPE '\\'
+        )
+        """)
+    List<Long> findIdsByNameContainingInDexRange(@Param("searchKey") String searchKey,
+                                                 @Param("language") Language language,
+                                                 @Param("after") int after,
+                                                 @Param("before") int before,
+                                                 Sort sort,
+                                                 Limit limit);
+
+    @Query(value = """
+        SELECT p.id FROM Pokemon p 
+        LEFT JOIN p.generation g 
+        WHERE """ + MATCHES_CRITERIA,
+            countQuery = """
+        SELECT COUNT(p) FROM Pokemon p 
+        LEFT JOIN p.generation g 
+        WHERE """ + MATCHES_CRITERIA)
+    Page<Long> findIdsByCriteria(@Param("searchKey") String searchKey,
+                                 @Param("language") Language language,
+                                 @Param("generationId") Long generationId,
+                                 @Param("generation") Integer generation,
+                                 @Param("types") Collection<String> types,
+                                 @Param("typeCount") long typeCount,
+                                 @Param("color") String color,
+                                 @Param("shape") String shape,
+                                 @Param("growthRate") String growthRate,
+                                 @Param("criteria") PokemonSearchCriteria criteria,
+                                 Pageable pageable);
+
+    @Query("""
+        SELECT p.id FROM Pokemon p 
+        LEFT JOIN p.generation g 
+        WHERE p.nationalDexNumber > :after 
+        AND p.nationalDexNumber < :before 
+        AND """ + MATCHES_CRITERIA)
+    List<Long> findIdsByCriteriaInDexRange(@Param("searchKey") String searchKey,
+                                           @Param("language") Language language,
+                                           @Param("generationId") Long generationId,
+                                           @Param("generation") Integer generation,
+                                           @Param("types") Collection<String> types,
+                                           @Param("typeCount") long typeCount,
+                                           @Param("color") String color,
+                                           @Param("shape") String shape,
+                                           @Param("growthRate") String growthRate,
+                                           @Param("criteria") PokemonSearchCriteria criteria,
+                                           @Param("after") int after,
+                                           @Param("before") int before,
+                                           Sort sort,
+                                           Limit limit);
+
+    @Query("""
+        SELECT new dev.dexellent.dexapi.domain.repository.PokemonListRow(
+            p.id, p.nationalDexNumber, p.identifier, p.generation.id, 
+            p.hp, p.attack, p.defense, p.specialAttack, p.specialDefense, p.speed, 
+            p.height, p.weight, p.captureRate, p.baseExperience, 
+            p.growthRate, p.genderRatio, p.eggCycles, p.color, p.shape, 
+            COALESCE(t.name, en.name, p.identifier), 
+            CASE WHEN t.id IS NOT NULL THEN t.species ELSE en.species END, 
+            CASE WHEN t.id IS NOT NULL THEN t.description ELSE en.description END, 
+            CASE WHEN t.id IS NOT NULL THEN t.habitat WHEN en.id IS NOT NULL THEN en.habitat ELSE p.shape END) 
+        FROM Pokemon p 
+        LEFT JOIN p.translations t ON t.language = :language 
+        LEFT JOIN p.translations en ON en.language = 'EN' 
+        WHERE p.id IN :ids
+        """)
+    List<PokemonListRow> findListRowsByIds(@Param("ids") Collection<Long> ids, @Param("language") Language language);
+
+    @EntityGraph(type = EntityGraphType.LOAD, attributePaths = "translations.description")
     @Query("""
         SELECT DISTINCT p FROM Pokemon p 
-        LEFT JOIN FETCH p.translations t 
-        WHERE p.id IN :ids 
-        AND (t.language = :language OR t.language = 'EN' OR t IS NULL)
+        LEFT JOIN FETCH p.translations 
+        ORDER BY p.nationalDexNumber
+        """)
+    List<Pokemon> findAllWithAllTranslations();
+
+    @Query("""
+        SELECT DISTINCT p FROM Pokemon p 
+        LEFT JOIN FETCH p.types pt 
+        LEFT JOIN FETCH pt.type
+        """)
+    List<Pokemon> findAllWithTypes();
+
+    @Query("""
+        SELECT DISTINCT p FROM Pokemon p 
+        LEFT JOIN FETCH p.abilities pa 
+        LEFT JOIN FETCH pa.ability
+        """)
+    List<Pokemon> findAllWithAbilities();
+
+    @Query("""
+        SELECT DISTINCT pt FROM PokemonType pt 
+        JOIN FETCH pt.type ty 
+        LEFT JOIN FETCH ty.translations 
+        WHERE pt.pokemon.id IN :pokemonIds
+        """)
+    List<PokemonType> findTypesByPokemonIds(@Param("pokemonIds") Collection<Long> pokemonIds);
+
+    @EntityGraph(type = EntityGraphType.LOAD,
+            attributePaths = {"ability.translations.description", "ability.translations.effect"})
+    @Query("""
+        SELECT DISTINCT pa FROM PokemonAbility pa 
+        JOIN FETCH pa.ability a 
+        LEFT JOIN FETCH a.translations 
+        WHERE pa.pokemon.id IN :pokemonIds
+        """)
+    List<PokemonAbility> findAbilitiesByPokemonIds(@Param("pokemonIds") Collection<Long> pokemonIds);
+
+    @Query("""
+        SELECT DISTINCT e FROM Evolution e 
+        JOIN FETCH e.fromPokemon 
+        JOIN FETCH e.toPokemon 
+        WHERE e.fromPokemon.id IN :pokemonIds 
+        OR e.toPokemon.id IN :pokemonIds
+        """)
+    List<Evolution> findEvolutionsByPokemonIds(@Param("pokemonIds") Collection<Long> pokemonIds);
+
+    @Query("""
+        SELECT DISTINCT pm FROM PokemonMove pm 
+        JOIN FETCH pm.move m 
+        JOIN FETCH m.type 
+        LEFT JOIN FETCH m.translations 
+        WHERE pm.pokemon.id IN :pokemonIds
+        """)
+    List<PokemonMove> findMovesByPokemonIds(@Param("pokemonIds") Collection<Long> pokemonIds);
+
+    @Query("""
+        SELECT pe FROM PokedexEntry pe 
+        JOIN FETCH pe.pokedex 
+        WHERE pe.pokemon.id IN :pokemonIds
         """)
-    List<Pokemon> findByIds(@Param("ids") List<Long> ids, @Param("language") Language language);
+    List<PokedexEntry> findPokedexEntriesByPokemonIds(@Param("pokemonIds") Collection<Long> pokemonIds);
 
     boolean existsByIdentifier(String identifier);
 
@@ -2,14 +2,22 @@ package dev.dexellent.dexapi.infrastructure.persistence;
 
 import dev.dexellent.dexapi.domain.model.Type;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 interface SpringDataTypeRepository extends JpaRepository<Type, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Type> findAll();
+
     Optional<Type> findByIdentifier(String identifier);
 
     @Query("""
@@ -23,6 +31,12 @@ interface SpringDataTypeRepository extends JpaRepository<Type, Long> {
     boolean existsByIdentifier(String identifier);
     List<Type> findByOrderByIdAsc();
 
+    @Query("""
+        SELECT DISTINCT t FROM Type t 
+        LEFT JOIN FETCH t.translations
+        """)
+    List<Type> findAllWithTranslations();
+
     @Query("""
         SELECT DISTINCT tt.language FROM Type t 
         JOIN t.translations tt 
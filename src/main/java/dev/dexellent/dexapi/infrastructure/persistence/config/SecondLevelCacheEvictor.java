@@ -0,0 +1,33 @@
+package dev.dexellent.dexapi.infrastructure.persistence.config;
+
+import dev.dexellent.dexapi.application.service.ImportCompletedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Clears the Hibernate second-level cache after an import. The reference data it holds is cached
+ * as nonstrict read-write and only changes on import, so dropping every entity, collection and
+ * query region here is what keeps it consistent, including for rows written outside Hibernate.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Runs before the dex snapshot is rebuilt, so the rebuild never reads stale reference data
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onImportCompleted(ImportCompletedEvent event) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        log.debug("Evicted second-level cache after import from {}", event.source());
+    }
+}
@@ -1,9 +1,18 @@
 package dev.dexellent.dexapi.infrastructure.web.config;
 
+import dev.dexellent.dexapi.infrastructure.web.filter.GzipETagFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.MimeType;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.Arrays;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -16,4 +25,21 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * Pokemon reads carry strong ETags, which Tomcat's own compression skips; this filter gzips
+     * them with the same MIME types and size threshold.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+    public FilterRegistrationBean<GzipETagFilter> gzipETagFilter(ServerProperties serverProperties) {
+        Compression compression = serverProperties.getCompression();
+        GzipETagFilter filter = new GzipETagFilter(
+                Arrays.stream(compression.getMimeTypes()).map(MimeType::valueOf).toList(),
+                compression.getMinResponseSize().toBytes());
+
+        FilterRegistrationBean<GzipETagFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/pokemon/*");
+        return registration;
+    }
 }
\ No newline at end of file
@@ -1,9 +1,20 @@
 package dev.dexellent.dexapi.infrastructure.web.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.dexellent.dexapi.application.service.CursorPage;
+import dev.dexellent.dexapi.application.service.DatasetVersion;
+import dev.dexellent.dexapi.application.service.DexCursor;
 import dev.dexellent.dexapi.application.service.PokemonApplicationService;
+import dev.dexellent.dexapi.application.service.PokemonFields;
+import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.PokemonSearchCriteria;
 import dev.dexellent.dexapi.domain.service.LanguageService;
 import dev.dexellent.dexapi.infrastructure.web.dto.response.ApiResponse;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.MultilingualPokemonResponse;
 import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonSuggestionResponse;
+import dev.dexellent.dexapi.infrastructure.web.service.PokemonResponseStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,11 +30,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/pokemon")
@@ -34,6 +56,44 @@ public class PokemonController {
 
     private final PokemonApplicationService pokemonService;
     private final LanguageService languageService;
+    private final PokemonResponseStore responseStore;
+    private final DatasetVersion datasetVersion;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "Suggest Pokemon names",
+            description = "Autocomplete Pokemon names starting with the given text in the requested language, " +
+                    "ranked by national dex number. Cheap enough to call on every keystroke."
+    )
+    public ResponseEntity<ApiResponse<List<PokemonSuggestionResponse>>> suggestPokemon(
+            @Parameter(description = "Beginning of the Pokemon name", example = "pik")
+            @RequestParam String q,
+
+            @Parameter(description = "Language code", example = "en")
+            @RequestParam(required = false) String lang,
+
+            @Parameter(description = "Maximum number of suggestions (max 25)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(25) int limit,
+
+            HttpServletRequest request) {
+
+        String languageCode = determineLanguage(lang, request);
+        String prefix = q.strip();
+        List<PokemonSuggestionResponse> suggestions = prefix.isEmpty() ? List.of() :
+                pokemonService.suggest(prefix, languageCode, limit);
+
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(ApiResponse.<List<PokemonSuggestionResponse>>builder()
+                        .success(true)
+                        .data(suggestions)
+                        .meta(Map.of(
+                                "language", languageCode,
+                                "query", prefix
+                        ))
+                        .build());
+    }
 
     @GetMapping("/{id}")
     @Operation(
@@ -52,31 +112,77 @@ public class PokemonController {
                     description = "Pokemon not found"
             )
     })
-    public ResponseEntity<ApiResponse<PokemonResponse>> getPokemonById(
+    public ResponseEntity<byte[]> getPokemonById(
             @Parameter(description = "Pokemon ID", example = "1")
             @PathVariable Long id,
 
             @Parameter(description = "Language code (en, fr, ja, es, de)", example = "en")
             @RequestParam(required = false) String lang,
 
-            HttpServletRequest request) {
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
 
-        String languageCode = determineLanguage(lang, request);
-        log.info("Fetching Pokemon with ID: {} in language: {}", id, languageCode);
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
 
-        PokemonResponse pokemon = pokemonService.findById(id, languageCode);
+            HttpServletRequest request,
+            WebRequest webRequest) {
 
-        // Add available languages to the response
-        List<String> availableLanguages = pokemonService.getAvailableLanguages(id);
-        pokemon.setAvailableLanguages(availableLanguages);
+        Language language = languageService.getLanguage(determineLanguage(lang, request));
+        PokemonFields fieldSet = PokemonFields.parse(fields, expand);
+        if (webRequest.checkNotModified(etag("pokemon/" + id + "?fields=" + fieldSet, language))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(ApiResponse.<PokemonResponse>builder()
+        log.info("Fetching Pokemon with ID: {} in language: {}", id, language.getCode());
+
+        Supplier<ApiResponse<PokemonResponse>> renderer = () -> {
+            // Available languages come with the detail response, no extra lookup needed
+            PokemonResponse pokemon = pokemonService.findById(id, language.getCode(), fieldSet);
+
+            return ApiResponse.<PokemonResponse>builder()
+                    .success(true)
+                    .data(pokemon)
+                    .meta(detailMeta(language.getCode(), pokemon))
+                    .build();
+        };
+
+        // The whole envelope is serialized once per Pokemon and language, then written out as-is.
+        // Sparse fieldsets are rendered per request.
+        byte[] body = fieldSet.isAll()
+                ? responseStore.getPokemon(id, language, renderer)
+                : serialize(renderer.get());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(body);
+    }
+
+    @GetMapping(value = "/{id}", params = "lang=*")
+    @Operation(
+            summary = "Get Pokemon by ID in all languages",
+            description = "Retrieve a Pokemon with every available translation, including its localized types " +
+                    "and abilities, keyed by language code."
+    )
+    public ResponseEntity<ApiResponse<MultilingualPokemonResponse>> getPokemonByIdInAllLanguages(
+            @Parameter(description = "Pokemon ID", example = "1")
+            @PathVariable Long id,
+
+            WebRequest webRequest) {
+
+        if (webRequest.checkNotModified(etag("pokemon/" + id, "*"))) {
+            return null;
+        }
+
+        log.info("Fetching Pokemon with ID: {} in all languages", id);
+        MultilingualPokemonResponse pokemon = pokemonService.findByIdInAllLanguages(id);
+
+        return ResponseEntity.ok(ApiResponse.<MultilingualPokemonResponse>builder()
                 .success(true)
                 .data(pokemon)
-                .meta(Map.of(
-                        "language", languageCode,
-                        "available_languages", availableLanguages
-                ))
+                .meta(Map.of("available_languages", pokemon.getAvailableLanguages()))
                 .build());
     }
 
@@ -92,24 +198,35 @@ public class PokemonController {
             @Parameter(description = "Language code", example = "en")
             @RequestParam(required = false) String lang,
 
-            HttpServletRequest request) {
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
 
-        String languageCode = determineLanguage(lang, request);
-        log.info("Fetching Pokemon with identifier: {} in language: {}", identifier, languageCode);
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
 
-        PokemonResponse pokemon = pokemonService.findByIdentifier(identifier, languageCode);
+            HttpServletRequest request,
+            WebRequest webRequest) {
 
-        List<String> availableLanguages = pokemonService.getAvailableLanguages(pokemon.getId());
-        pokemon.setAvailableLanguages(availableLanguages);
+        // Resolved once, so the body echoes the same language the ETag is built from
+        Language language = languageService.getLanguage(determineLanguage(lang, request));
+        String languageCode = language.getCode();
+        PokemonFields fieldSet = PokemonFields.parse(fields, expand);
+        if (webRequest.checkNotModified(etag("pokemon/identifier/" + identifier + "?fields=" + fieldSet, language))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(ApiResponse.<PokemonResponse>builder()
-                .success(true)
-                .data(pokemon)
-                .meta(Map.of(
-                        "language", languageCode,
-                        "available_languages", availableLanguages
-                ))
-                .build());
+        log.info("Fetching Pokemon with identifier: {} in language: {}", identifier, languageCode);
+
+        PokemonResponse pokemon = pokemonService.findByIdentifier(identifier, languageCode, fieldSet);
+
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(ApiResponse.<PokemonResponse>builder()
+                        .success(true)
+                        .data(pokemon)
+                        .meta(detailMeta(languageCode, pokemon))
+                        .build());
     }
 
     @GetMapping("/name/{name}")
@@ -124,22 +241,64 @@ public class PokemonController {
             @Parameter(description = "Language code", example = "en")
             @RequestParam(required = false) String lang,
 
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
+
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
+
             HttpServletRequest request) {
 
         String languageCode = determineLanguage(lang, request);
+        PokemonFields fieldSet = PokemonFields.parse(fields, expand);
         log.info("Fetching Pokemon with name: {} in language: {}", name, languageCode);
 
-        PokemonResponse pokemon = pokemonService.findByName(name, languageCode);
-
-        List<String> availableLanguages = pokemonService.getAvailableLanguages(pokemon.getId());
-        pokemon.setAvailableLanguages(availableLanguages);
+        PokemonResponse pokemon = pokemonService.findByName(name, languageCode, fieldSet);
 
         return ResponseEntity.ok(ApiResponse.<PokemonResponse>builder()
                 .success(true)
                 .data(pokemon)
+                .meta(detailMeta(languageCode, pokemon))
+                .build());
+    }
+
+    @GetMapping(value = "/name/{name}", params = "fuzzy=true")
+    @Operation(
+            summary = "Find Pokemon by approximate name",
+            description = "Typo-tolerant name lookup: returns the Pokemon whose name in the specified language is " +
+                    "within a bounded edit distance, closest first. The bound defaults to 1 for names of up to " +
+                    "4 characters and 2 otherwise."
+    )
+    public ResponseEntity<ApiResponse<List<PokemonSuggestionResponse>>> getPokemonByFuzzyName(
+            @Parameter(description = "Approximate Pokemon name in specified language", example = "Pikachuu")
+            @PathVariable String name,
+
+            @Parameter(description = "Language code", example = "en")
+            @RequestParam(required = false) String lang,
+
+            @Parameter(description = "Maximum edit distance (max 3)", example = "2")
+            @RequestParam(name = "max_distance", required = false) @Min(0) @Max(3) Integer maxDistance,
+
+            @Parameter(description = "Maximum number of matches (max 25)", example = "5")
+            @RequestParam(defaultValue = "5") @Min(1) @Max(25) int limit,
+
+            HttpServletRequest request) {
+
+        String languageCode = determineLanguage(lang, request);
+        String query = name.strip();
+        int distance = maxDistance != null ? maxDistance : (query.length() <= 4 ? 1 : 2);
+        log.info("Fuzzy lookup of Pokemon name: {} in language: {} within distance {}", query, languageCode, distance);
+
+        List<PokemonSuggestionResponse> matches = pokemonService.findByNameFuzzy(query, languageCode, distance, limit);
+
+        return ResponseEntity.ok(ApiResponse.<List<PokemonSuggestionResponse>>builder()
+                .success(true)
+                .data(matches)
                 .meta(Map.of(
                         "language", languageCode,
-                        "available_languages", availableLanguages
+                        "query", query,
+                        "max_distance", distance
                 ))
                 .build());
     }
@@ -148,7 +307,10 @@ public class PokemonController {
     @Operation(
             summary = "Search Pokemon",
             description = "Search and filter Pokemon with pagination support. " +
-                    "Supports searching by name, filtering by generation, and sorting options."
+                    "Supports searching by name, filtering by generation (exact or cumulative), type, color, shape " +
+                    "and growth rate, " +
+                    "ranges over stats and size, " +
+                    "and sorting options. Filters combine: a Pokemon must match all of them."
     )
     public ResponseEntity<ApiResponse<Page<PokemonResponse>>> searchPokemon(
             @Parameter(description = "Search by Pokemon name", example = "pika")
@@ -157,6 +319,29 @@ public class PokemonController {
             @Parameter(description = "Filter by generation ID", example = "1")
             @RequestParam(required = false) Long generationId,
 
+            @Parameter(description = "Filter by generation number", example = "1")
+            @RequestParam(required = false) Integer generation,
+
+            @Parameter(description = "Only Pokemon introduced in this generation or earlier", example = "3")
+            @RequestParam(required = false) Integer upToGeneration,
+
+            @Parameter(description = "Filter by type identifier, repeat to require several types", example = "fire")
+            @RequestParam(name = "type", required = false) List<String> types,
+
+            @Parameter(description = "Filter by color", example = "red")
+            @RequestParam(required = false) String color,
+
+            @Parameter(description = "Filter by shape", example = "upright")
+            @RequestParam(required = false) String shape,
+
+            @Parameter(description = "Filter by growth rate", example = "medium-slow")
+            @RequestParam(required = false) String growthRate,
+
+            @Parameter(description = "Inclusive range as attribute:min..max with either bound optional, repeatable. " +
+                    "Attributes: hp, attack, defense, specialAttack, specialDefense, speed, baseExperience, " +
+                    "captureRate, height (m), weight (kg)", example = "speed:100..")
+            @RequestParam(name = "range", required = false) List<String> ranges,
+
             @Parameter(description = "Language code", example = "en")
             @RequestParam(required = false) String lang,
 
@@ -166,17 +351,36 @@ public class PokemonController {
             @Parameter(description = "Page size (max 100)", example = "20")
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
 
-            @Parameter(description = "Sort field", example = "nationalDexNumber")
+            @Parameter(description = "Sort field: id, nationalDexNumber, identifier, name (in the requested language), " +
+                    "a base stat, height, weight, captureRate, baseExperience, growthRate, genderRatio, eggCycles, " +
+                    "color or shape", example = "nationalDexNumber")
             @RequestParam(defaultValue = "nationalDexNumber") String sort,
 
             @Parameter(description = "Sort direction", example = "asc")
             @RequestParam(defaultValue = "asc") String direction,
 
-            HttpServletRequest request) {
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
+
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
+
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        Language language = languageService.getLanguage(determineLanguage(lang, request));
+        String languageCode = language.getCode();
+        PokemonFields fieldSet = PokemonFields.parse(fields, expand);
+        PokemonSearchCriteria criteria = PokemonSearchCriteria.of(name, generationId, generation, upToGeneration, types,
+                color, shape, growthRate, ranges);
+        String resource = "pokemon?" + criteria + "&page=" + page +
+                "&size=" + size + "&sort=" + sort + "&direction=" + direction + "&fields=" + fieldSet;
+        if (webRequest.checkNotModified(etag(resource, language))) {
+            return null;
+        }
 
-        String languageCode = determineLanguage(lang, request);
-        log.info("Searching Pokemon - name: {}, generation: {}, language: {}, page: {}, size: {}",
-                name, generationId, languageCode, page, size);
+        log.info("Searching Pokemon - {}, language: {}, page: {}, size: {}", criteria, languageCode, page, size);
 
         // Create sort object
         Sort sortObj = Sort.by(
@@ -187,33 +391,182 @@ public class PokemonController {
 
         Page<PokemonResponse> results;
 
-        if (generationId != null) {
-            results = pokemonService.findByGeneration(generationId, languageCode, pageable);
+        if (criteria.hasAttributes()) {
+            results = pokemonService.search(criteria, languageCode, pageable, fieldSet);
+        } else if (generationId != null) {
+            results = pokemonService.findByGeneration(generationId, languageCode, pageable, fieldSet);
         } else if (name != null && !name.isBlank()) {
-            results = pokemonService.searchByName(name.trim(), languageCode, pageable);
+            results = pokemonService.searchByName(name.trim(), languageCode, pageable, fieldSet);
         } else {
-            results = pokemonService.findAll(languageCode, pageable);
+            results = pokemonService.findAll(languageCode, pageable, fieldSet);
         }
 
-        return ResponseEntity.ok(ApiResponse.<Page<PokemonResponse>>builder()
-                .success(true)
-                .data(results)
-                .meta(Map.of(
-                        "language", languageCode,
-                        "total_elements", results.getTotalElements(),
-                        "total_pages", results.getTotalPages(),
-                        "current_page", results.getNumber(),
-                        "page_size", results.getSize(),
-                        "has_next", results.hasNext(),
-                        "has_previous", results.hasPrevious()
-                ))
-                .build());
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(ApiResponse.<Page<PokemonResponse>>builder()
+                        .success(true)
+                        .data(results)
+                        .meta(Map.of(
+                                "language", languageCode,
+                                "total_elements", results.getTotalElements(),
+                                "total_pages", results.getTotalPages(),
+                                "current_page", results.getNumber(),
+                                "page_size", results.getSize(),
+                                "has_next", results.hasNext(),
+                                "has_previous", results.hasPrevious()
+                        ))
+                        .build());
+    }
+
+    @GetMapping(params = "after")
+    @Operation(
+            summary = "Search Pokemon with cursor pagination",
+            description = "Same filters as the search endpoint, paginated by an opaque cursor instead of a page number. " +
+                    "Pass an empty 'after' to get the first page, then the 'next_cursor' of each page. " +
+                    "Every page costs the same however deep it is, and no totals are computed."
+    )
+    public ResponseEntity<ApiResponse<List<PokemonResponse>>> searchPokemonByCursor(
+            @Parameter(description = "Search by Pokemon name", example = "pika")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Filter by generation ID", example = "1")
+            @RequestParam(required = false) Long generationId,
+
+            @Parameter(description = "Filter by generation number", example = "1")
+            @RequestParam(required = false) Integer generation,
+
+            @Parameter(description = "Only Pokemon introduced in this generation or earlier", example = "3")
+            @RequestParam(required = false) Integer upToGeneration,
+
+            @Parameter(description = "Filter by type identifier, repeat to require several types", example = "fire")
+            @RequestParam(name = "type", required = false) List<String> types,
+
+            @Parameter(description = "Filter by color", example = "red")
+            @RequestParam(required = false) String color,
+
+            @Parameter(description = "Filter by shape", example = "upright")
+            @RequestParam(required = false) String shape,
+
+            @Parameter(description = "Filter by growth rate", example = "medium-slow")
+            @RequestParam(required = false) String growthRate,
+
+            @Parameter(description = "Inclusive range as attribute:min..max with either bound optional, repeatable. " +
+                    "Attributes: hp, attack, defense, specialAttack, specialDefense, speed, baseExperience, " +
+                    "captureRate, height (m), weight (kg)", example = "speed:100..")
+            @RequestParam(name = "range", required = false) List<String> ranges,
+
+            @Parameter(description = "Language code", example = "en")
+            @RequestParam(required = false) String lang,
+
+            @Parameter(description = "Cursor returned as 'next_cursor' by the previous page, empty for the first page")
+            @RequestParam String after,
+
+            @Parameter(description = "Page size (max 100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+
+            @Parameter(description = "Sort field, only nationalDexNumber is supported with cursors", example = "nationalDexNumber")
+            @RequestParam(defaultValue = "nationalDexNumber") String sort,
+
+            @Parameter(description = "Sort direction", example = "asc")
+            @RequestParam(defaultValue = "asc") String direction,
+
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
+
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
+
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        if (!"nationalDexNumber".equals(sort)) {
+            throw new IllegalArgumentException("Cursor pagination only supports sort=nationalDexNumber");
+        }
+
+        Language language = languageService.getLanguage(determineLanguage(lang, request));
+        String languageCode = language.getCode();
+        PokemonFields fieldSet = PokemonFields.parse(fields, expand);
+        PokemonSearchCriteria criteria = PokemonSearchCriteria.of(name, generationId, generation, upToGeneration, types,
+                color, shape, growthRate, ranges);
+        String resource = "pokemon?" + criteria + "&after=" + after +
+                "&size=" + size + "&direction=" + direction + "&fields=" + fieldSet;
+        if (webRequest.checkNotModified(etag(resource, language))) {
+            return null;
+        }
+
+        log.info("Searching Pokemon by cursor - {}, language: {}, after: {}, size: {}",
+                criteria, languageCode, after, size);
+
+        DexCursor cursor = after.isBlank() ? null : DexCursor.decode(after);
+        boolean descending = "desc".equalsIgnoreCase(direction);
+
+        CursorPage<PokemonResponse> results;
+
+        if (criteria.hasAttributes()) {
+            results = pokemonService.search(criteria, languageCode, cursor, descending, size, fieldSet);
+        } else if (generationId != null) {
+            results = pokemonService.findByGeneration(generationId, languageCode, cursor, descending, size, fieldSet);
+        } else if (name != null && !name.isBlank()) {
+            results = pokemonService.searchByName(name.trim(), languageCode, cursor, descending, size, fieldSet);
+        } else {
+            results = pokemonService.findAll(languageCode, cursor, descending, size, fieldSet);
+        }
+
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("language", languageCode);
+        meta.put("page_size", size);
+        meta.put("has_next", results.hasNext());
+        if (results.hasNext()) {
+            meta.put("next_cursor", results.nextCursor());
+        }
+
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(ApiResponse.<List<PokemonResponse>>builder()
+                        .success(true)
+                        .data(results.content())
+                        .meta(meta)
+                        .build());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export all Pokemon",
+            description = "Stream every Pokemon in national dex order as newline-delimited JSON, one document per line. " +
+                    "Send 'Accept-Encoding: gzip' to receive the stream compressed."
+    )
+    public ResponseEntity<StreamingResponseBody> exportPokemon(
+            @Parameter(description = "Language code", example = "en")
+            @RequestParam(required = false) String lang,
+
+            HttpServletRequest request) {
+
+        String languageCode = languageService.getLanguage(determineLanguage(lang, request)).getCode();
+        log.info("Exporting all Pokemon in language: {}", languageCode);
+
+        StreamingResponseBody body = outputStream -> pokemonService.exportAll(languageCode, pokemon -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(pokemon));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pokemon-" + languageCode + ".ndjson\"")
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(body);
     }
 
     @PostMapping("/bulk")
     @Operation(
             summary = "Get multiple Pokemon by IDs",
-            description = "Retrieve multiple Pokemon at once by providing a list of IDs"
+            description = "Retrieve up to 100 Pokemon at once by providing a list of IDs. Duplicate IDs are " +
+                    "returned once, results follow the request order and unknown IDs are returned as null " +
+                    "and listed in meta.not_found."
     )
     public ResponseEntity<ApiResponse<List<PokemonResponse>>> getBulkPokemon(
             @Parameter(description = "List of Pokemon IDs")
@@ -222,12 +575,27 @@ public class PokemonController {
             @Parameter(description = "Language code")
             @RequestParam(required = false) String lang,
 
+            @Parameter(description = "Comma separated fields to return, all fields when omitted", example = "id,name,types,stats")
+            @RequestParam(required = false) String fields,
+
+            @Parameter(description = "Comma separated relations to embed: types, abilities, generation, evolutions, " +
+                    "moves, pokedexEntries. Defaults to types, abilities and generation", example = "types,evolutions")
+            @RequestParam(required = false) String expand,
+
             HttpServletRequest request) {
 
         String languageCode = determineLanguage(lang, request);
         log.info("Fetching bulk Pokemon - IDs: {}, language: {}", ids, languageCode);
 
-        List<PokemonResponse> pokemon = pokemonService.findByIds(ids, languageCode);
+        List<PokemonResponse> pokemon = pokemonService.findByIds(ids, languageCode, PokemonFields.parse(fields, expand));
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<Long> notFound = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            if (pokemon.get(i) == null) {
+                notFound.add(distinctIds.get(i));
+            }
+        }
 
         return ResponseEntity.ok(ApiResponse.<List<PokemonResponse>>builder()
                 .success(true)
@@ -235,7 +603,8 @@ public class PokemonController {
                 .meta(Map.of(
                         "language", languageCode,
                         "requested_count", ids.size(),
-                        "returned_count", pokemon.size()
+                        "returned_count", distinctIds.size() - notFound.size(),
+                        "not_found", notFound
                 ))
                 .build());
     }
@@ -265,6 +634,38 @@ public class PokemonController {
                 .build());
     }
 
+    private Map<String, Object> detailMeta(String languageCode, PokemonResponse pokemon) {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("language", languageCode);
+        // Absent when a sparse fieldset leaves available_languages out
+        if (pokemon.getAvailableLanguages() != null) {
+            meta.put("available_languages", pokemon.getAvailableLanguages());
+        }
+        return meta;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Strong validator derived from the dataset version, the resource and the language, so
+     * conditional requests are answered without rendering the body. Gzipped bodies get their own
+     * {@code -gzip} variant of it from {@code GzipETagFilter}.
+     */
+    private String etag(String resource, Language language) {
+        return etag(resource, language.getCode());
+    }
+
+    private String etag(String resource, String languageCode) {
+        return "\"" + datasetVersion.current() + ":" +
+                URLEncoder.encode(resource, StandardCharsets.UTF_8) + ":" + languageCode + "\"";
+    }
+
     private String determineLanguage(String langParam, HttpServletRequest request) {
         return langParam != null ? langParam :
                 languageService.detectLanguage(request).getCode();
@@ -0,0 +1,46 @@
+package dev.dexellent.dexapi.infrastructure.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EvolutionResponse {
+    private Long id;
+
+    @JsonProperty("from_pokemon_id")
+    private Long fromPokemonId;
+
+    @JsonProperty("from_identifier")
+    private String fromIdentifier;
+
+    @JsonProperty("to_pokemon_id")
+    private Long toPokemonId;
+
+    @JsonProperty("to_identifier")
+    private String toIdentifier;
+
+    private String trigger;
+
+    @JsonProperty("minimum_level")
+    private Integer minimumLevel;
+
+    private String item;
+    private String condition;
+
+    @JsonProperty("minimum_happiness")
+    private Integer minimumHappiness;
+
+    @JsonProperty("time_of_day")
+    private String timeOfDay;
+
+    private String location;
+    private Integer order; // For branching evolutions
+}
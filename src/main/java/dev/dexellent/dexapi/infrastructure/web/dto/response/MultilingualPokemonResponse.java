@@ -0,0 +1,31 @@
+package dev.dexellent.dexapi.infrastructure.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MultilingualPokemonResponse {
+    private Long id;
+
+    @JsonProperty("national_dex_number")
+    private Integer nationalDexNumber;
+
+    private String identifier;
+
+    @JsonProperty("available_languages")
+    private List<String> availableLanguages;
+
+    // Full response per available language code, with types and abilities localized
+    private Map<String, PokemonResponse> translations;
+}
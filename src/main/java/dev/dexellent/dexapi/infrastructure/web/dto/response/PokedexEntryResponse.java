@@ -0,0 +1,21 @@
+package dev.dexellent.dexapi.infrastructure.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PokedexEntryResponse {
+    private String pokedex;
+    private String region;
+
+    @JsonProperty("entry_number")
+    private Integer entryNumber;
+}
@@ -0,0 +1,32 @@
+package dev.dexellent.dexapi.infrastructure.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PokemonMoveResponse {
+    private Long id;
+    private String identifier;
+    private String name;
+    private String type;
+    private String category;
+    private Integer power;
+    private Integer accuracy;
+
+    @JsonProperty("power_points")
+    private Integer powerPoints;
+
+    @JsonProperty("learn_method")
+    private String learnMethod;
+
+    @JsonProperty("level_learned")
+    private Integer levelLearned;
+}
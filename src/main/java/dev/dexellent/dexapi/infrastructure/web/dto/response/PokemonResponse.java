@@ -60,6 +60,13 @@ public class PokemonResponse {
     private List<AbilityResponse> abilities;
     private GenerationResponse generation;
 
+    // Only present when requested through expand=
+    private List<EvolutionResponse> evolutions;
+    private List<PokemonMoveResponse> moves;
+
+    @JsonProperty("pokedex_entries")
+    private List<PokedexEntryResponse> pokedexEntries;
+
     // Localization metadata
     private String language;
 
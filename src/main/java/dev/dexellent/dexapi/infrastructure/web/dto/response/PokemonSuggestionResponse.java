@@ -0,0 +1,26 @@
+package dev.dexellent.dexapi.infrastructure.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PokemonSuggestionResponse {
+    private Long id;
+
+    @JsonProperty("national_dex_number")
+    private Integer nationalDexNumber;
+
+    private String identifier;
+    private String name;
+
+    // Edit distance from the query, set for fuzzy matches only
+    private Integer distance;
+}
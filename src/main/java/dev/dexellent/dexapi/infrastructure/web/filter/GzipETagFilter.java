@@ -0,0 +1,140 @@
+package dev.dexellent.dexapi.infrastructure.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips GET responses that carry a strong ETag. Tomcat refuses to compress those, since a strong
+ * validator promises byte-identical bodies, so the compressed body gets its own validator instead:
+ * {@code "<tag>-gzip"}. Incoming {@code If-None-Match} values are mapped back to the identity tag
+ * before the controller compares them.
+ * <p>
+ * Responses without a strong ETag are passed through untouched and left to Tomcat's compression.
+ */
+public class GzipETagFilter extends OncePerRequestFilter {
+
+    static final String GZIP_SUFFIX = "-gzip\"";
+
+    private final List<MimeType> mimeTypes;
+    private final long minResponseSize;
+
+    public GzipETagFilter(List<MimeType> mimeTypes, long minResponseSize) {
+        this.mimeTypes = List.copyOf(mimeTypes);
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Streamed bodies must not be buffered, and they carry no ETag anyway
+        return !HttpMethod.GET.matches(request.getMethod()) || !acceptsGzip(request)
+                || request.getRequestURI().endsWith("/export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        chain.doFilter(new IdentityETagRequest(request), cachingResponse);
+
+        String etag = cachingResponse.getHeader(HttpHeaders.ETAG);
+        if (etag == null || etag.startsWith("W/")) {
+            cachingResponse.copyBodyToResponse();
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + GZIP_SUFFIX);
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        byte[] body = cachingResponse.getContentAsByteArray();
+        if (cachingResponse.getStatus() != HttpServletResponse.SC_OK || body.length < minResponseSize
+                || !compressible(cachingResponse.getContentType())) {
+            cachingResponse.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = gzip(body);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLengthLong(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private boolean compressible(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return false;
+        }
+        MimeType type = MimeType.valueOf(contentType);
+        return mimeTypes.stream().anyMatch(mimeType -> mimeType.isCompatibleWith(type));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("(?i)q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Hands the controller the identity form of the validators it issued, so a client revalidating
+     * its gzipped copy still gets a 304.
+     */
+    private static class IdentityETagRequest extends HttpServletRequestWrapper {
+
+        IdentityETagRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? identity(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            Enumeration<String> values = super.getHeaders(name);
+            if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || values == null) {
+                return values;
+            }
+            return Collections.enumeration(Collections.list(values).stream().map(IdentityETagRequest::identity).toList());
+        }
+
+        private static String identity(String ifNoneMatch) {
+            return ifNoneMatch != null ? ifNoneMatch.replace(GZIP_SUFFIX, "\"") : null;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package dev.dexellent.dexapi.infrastructure.web.mapper;
 
 import dev.dexellent.dexapi.domain.model.*;
 import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.domain.repository.PokemonExpansions;
+import dev.dexellent.dexapi.domain.repository.PokemonListRow;
+import dev.dexellent.dexapi.domain.repository.PokemonRelations;
 import dev.dexellent.dexapi.infrastructure.web.dto.response.*;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +17,82 @@ public class PokemonMapper {
     public PokemonResponse toResponse(Pokemon pokemon, Language language) {
         if (pokemon == null) return null;
 
+        return toResponse(pokemon, language, pokemon.getTypes(), pokemon.getAbilities(), pokemon.getGeneration());
+    }
+
+    /**
+     * Maps a Pokemon using pre-loaded relations instead of its lazy collections.
+     */
+    public PokemonResponse toResponse(Pokemon pokemon, Language language, PokemonRelations relations) {
+        if (pokemon == null) return null;
+
+        return toResponse(pokemon, language,
+                relations.typesOf(pokemon.getId()),
+                relations.abilitiesOf(pokemon.getId()),
+                relations.generationOf(pokemon));
+    }
+
+    /**
+     * Maps a listing row, whose localized values are already resolved, using pre-loaded relations.
+     */
+    public PokemonResponse toResponse(PokemonListRow row, Language language, PokemonRelations relations) {
+        if (row == null) return null;
+
+        return PokemonResponse.builder()
+                .id(row.id())
+                .nationalDexNumber(row.nationalDexNumber())
+                .identifier(row.identifier())
+                .name(row.name())
+                .species(row.species())
+                .description(row.description())
+                .habitat(row.habitat())
+                .stats(PokemonResponse.StatsResponse.builder()
+                        .hp(row.hp())
+                        .attack(row.attack())
+                        .defense(row.defense())
+                        .specialAttack(row.specialAttack())
+                        .specialDefense(row.specialDefense())
+                        .speed(row.speed())
+                        .build())
+                .height(row.height())
+                .weight(row.weight())
+                .captureRate(row.captureRate())
+                .baseExperience(row.baseExperience())
+                .growthRate(row.growthRate())
+                .genderRatio(row.genderRatio())
+                .eggCycles(row.eggCycles())
+                .color(row.color())
+                .shape(row.shape())
+                .types(mapTypes(relations.typesOf(row.id()), language))
+                .abilities(mapAbilities(relations.abilitiesOf(row.id()), language))
+                .generation(mapGeneration(relations.generationOf(row.generationId())))
+                .language(language.getCode())
+                .build();
+    }
+
+    /**
+     * Sets the relations loaded through {@code expand=} on {@code response}, which must not be shared;
+     * relations that were not requested are left untouched.
+     */
+    public void expand(PokemonResponse response, PokemonExpansions expansions, Language language) {
+        Long pokemonId = response.getId();
+        List<Evolution> evolutions = expansions.evolutionsOf(pokemonId);
+        if (evolutions != null) {
+            response.setEvolutions(mapEvolutions(evolutions));
+        }
+        List<PokemonMove> moves = expansions.movesOf(pokemonId);
+        if (moves != null) {
+            response.setMoves(mapMoves(moves, language));
+        }
+        List<PokedexEntry> pokedexEntries = expansions.pokedexEntriesOf(pokemonId);
+        if (pokedexEntries != null) {
+            response.setPokedexEntries(mapPokedexEntries(pokedexEntries));
+        }
+    }
+
+    private PokemonResponse toResponse(Pokemon pokemon, Language language, List<PokemonType> types,
+                                       List<PokemonAbility> abilities, Generation generation) {
+
         PokemonTranslation translation = pokemon.getTranslationOrDefault(language);
 
         return PokemonResponse.builder()
@@ -41,9 +120,9 @@ public class PokemonMapper {
                 .eggCycles(pokemon.getEggCycles())
                 .color(pokemon.getColor())
                 .shape(pokemon.getShape())
-                .types(mapTypes(pokemon.getTypes(), language))
-                .abilities(mapAbilities(pokemon.getAbilities(), language))
-                .generation(mapGeneration(pokemon.getGeneration()))
+                .types(mapTypes(types, language))
+                .abilities(mapAbilities(abilities, language))
+                .generation(mapGeneration(generation))
                 .language(language.getCode())
                 .build();
     }
@@ -103,4 +182,62 @@ public class PokemonMapper {
                 .games(generation.getGames())
                 .build();
     }
-}
\ No newline at end of file
+
+    private List<EvolutionResponse> mapEvolutions(List<Evolution> evolutions) {
+        return evolutions.stream()
+                .sorted(Comparator.comparing((Evolution e) -> e.getFromPokemon().getNationalDexNumber())
+                        .thenComparing(e -> e.getOrder() != null ? e.getOrder() : 0))
+                .map(evolution -> EvolutionResponse.builder()
+                        .id(evolution.getId())
+                        .fromPokemonId(evolution.getFromPokemon().getId())
+                        .fromIdentifier(evolution.getFromPokemon().getIdentifier())
+                        .toPokemonId(evolution.getToPokemon().getId())
+                        .toIdentifier(evolution.getToPokemon().getIdentifier())
+                        .trigger(evolution.getTrigger() != null ? evolution.getTrigger().name() : null)
+                        .minimumLevel(evolution.getMinimumLevel())
+                        .item(evolution.getItem())
+                        .condition(evolution.getCondition())
+                        .minimumHappiness(evolution.getMinimumHappiness())
+                        .timeOfDay(evolution.getTimeOfDay())
+                        .location(evolution.getLocation())
+                        .order(evolution.getOrder())
+                        .build())
+                .toList();
+    }
+
+    private List<PokemonMoveResponse> mapMoves(List<PokemonMove> pokemonMoves, Language language) {
+        return pokemonMoves.stream()
+                .sorted(Comparator.comparing(PokemonMove::getLearnMethod)
+                        .thenComparing(pm -> pm.getLevelLearned() != null ? pm.getLevelLearned() : 0)
+                        .thenComparing(pm -> pm.getMove().getIdentifier()))
+                .map(pm -> {
+                    Move move = pm.getMove();
+                    MoveTranslation moveTranslation = move.getTranslationOrDefault(language);
+
+                    return PokemonMoveResponse.builder()
+                            .id(move.getId())
+                            .identifier(move.getIdentifier())
+                            .name(moveTranslation != null ? moveTranslation.getName() : move.getIdentifier())
+                            .type(move.getType().getIdentifier())
+                            .category(move.getCategory().name())
+                            .power(move.getPower())
+                            .accuracy(move.getAccuracy())
+                            .powerPoints(move.getPowerPoints())
+                            .learnMethod(pm.getLearnMethod().name())
+                            .levelLearned(pm.getLevelLearned())
+                            .build();
+                })
+                .toList();
+    }
+
+    private List<PokedexEntryResponse> mapPokedexEntries(List<PokedexEntry> pokedexEntries) {
+        return pokedexEntries.stream()
+                .sorted(Comparator.comparing((PokedexEntry pe) -> pe.getPokedex().getId()))
+                .map(pe -> PokedexEntryResponse.builder()
+                        .pokedex(pe.getPokedex().getName())
+                        .region(pe.getPokedex().getRegion())
+                        .entryNumber(pe.getEntryNumber())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,54 @@
+package dev.dexellent.dexapi.infrastructure.web.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.dexellent.dexapi.application.service.DatasetVersion;
+import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.ApiResponse;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the final UTF-8 JSON document (envelope included) for each Pokemon and language, so hot
+ * detail reads are written out without going through Jackson again.
+ * <p>
+ * Documents remember the {@link DatasetVersion} they were rendered at and are re-rendered once it moves.
+ */
+@Component
+@RequiredArgsConstructor
+public class PokemonResponseStore {
+
+    private final ObjectMapper objectMapper;
+    private final DatasetVersion datasetVersion;
+    private final ConcurrentMap<String, Document> documents = new ConcurrentHashMap<>();
+
+    public byte[] getPokemon(Long id, Language language, Supplier<ApiResponse<PokemonResponse>> renderer) {
+        // Read the version before rendering, so a document is never newer than the version it records
+        long version = datasetVersion.current();
+        String key = id + "_" + language.getCode();
+
+        Document document = documents.get(key);
+        if (document == null || document.version() != version) {
+            document = new Document(version, serialize(renderer.get()));
+            documents.put(key, document);
+        }
+        return document.json();
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Document(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,7 @@
+-- Folded name used for lookups (see SearchKeys): accents stripped, kana and case folded.
+-- Filled by the application on write; existing rows are backfilled by V3.
+ALTER TABLE pokemon_translations ADD COLUMN search_key VARCHAR(150);
+
+-- Serves both exact lookups and prefix LIKE 'abc%' within a language
+CREATE INDEX idx_pokemon_translations_lang_search_key
+    ON pokemon_translations(language, search_key varchar_pattern_ops);
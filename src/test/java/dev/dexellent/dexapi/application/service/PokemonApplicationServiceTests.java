@@ -0,0 +1,178 @@
+package dev.dexellent.dexapi.application.service;
+
+import dev.dexellent.dexapi.TestcontainersConfiguration;
+import dev.dexellent.dexapi.domain.model.*;
+import dev.dexellent.dexapi.domain.model.enums.Language;
+import dev.dexellent.dexapi.infrastructure.web.dto.response.PokemonResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+        "dexapi.snapshot.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PokemonApplicationServiceTests {
+
+    private static final long MAX_DETAIL_STATEMENTS = 4;
+    private static final long MAX_PAGE_STATEMENTS = 6;
+
+    @Autowired
+    private PokemonApplicationService pokemonService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void findByIdUsesBoundedNumberOfStatements() {
+        Long sparse = transactionTemplate.execute(status -> persistPokemon(9001, "sparsemon", 1, 1, List.of(Language.EN)));
+        Long rich = transactionTemplate.execute(status ->
+                persistPokemon(9002, "richmon", 2, 3, List.of(Language.EN, Language.FR, Language.DE)));
+
+        long sparseStatements = countStatements(() -> pokemonService.findById(sparse, "en", PokemonFields.ALL));
+        long richStatements = countStatements(() -> {
+            PokemonResponse response = pokemonService.findById(rich, "fr", PokemonFields.ALL);
+            assertThat(response.getTypes()).hasSize(2);
+            assertThat(response.getAbilities()).hasSize(3);
+            assertThat(response.getAvailableLanguages()).containsExactlyInAnyOrder("en", "fr", "de");
+        });
+
+        assertThat(sparseStatements).isLessThanOrEqualTo(MAX_DETAIL_STATEMENTS);
+        assertThat(richStatements).isEqualTo(sparseStatements);
+    }
+
+    @Test
+    void listPagesUseSameNumberOfStatementsWhateverTheirSize() {
+        List<Long> ids = new ArrayList<>();
+        Long generationId = transactionTemplate.execute(status -> {
+            Generation generation = persistGeneration(9100);
+            for (int i = 1; i <= 6; i++) {
+                ids.add(persistPokemon(generation, 9100 + i, "pagemon" + i, 2, 2, List.of(Language.EN, Language.FR)));
+            }
+            return generation.getId();
+        });
+
+        long smallPageStatements = countStatements(() -> assertThat(pokemonService.findByGeneration(generationId, "fr",
+                PageRequest.of(0, 2), PokemonFields.ALL).getContent()).hasSize(2));
+        long largePageStatements = countStatements(() -> {
+            List<PokemonResponse> content = pokemonService.findByGeneration(generationId, "fr",
+                    PageRequest.of(0, 5), PokemonFields.ALL).getContent();
+            assertThat(content).hasSize(5);
+            assertThat(content).allSatisfy(response -> {
+                assertThat(response.getName()).endsWith("-fr");
+                assertThat(response.getTypes()).hasSize(2);
+                assertThat(response.getAbilities()).hasSize(2);
+                assertThat(response.getGeneration().getId()).isEqualTo(generationId);
+            });
+        });
+
+        assertThat(smallPageStatements).isLessThanOrEqualTo(MAX_PAGE_STATEMENTS);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+
+        // Disjoint ids, so neither bulk lookup is answered from the cache
+        long smallBulkStatements = countStatements(() ->
+                assertThat(pokemonService.findByIds(ids.subList(0, 2), "en", PokemonFields.ALL)).hasSize(2));
+        long largeBulkStatements = countStatements(() ->
+                assertThat(pokemonService.findByIds(ids.subList(2, 6), "en", PokemonFields.ALL)).hasSize(4));
+
+        // No count query, so a bulk lookup never needs more statements than a page
+        assertThat(smallBulkStatements).isLessThanOrEqualTo(MAX_PAGE_STATEMENTS);
+        assertThat(largeBulkStatements).isEqualTo(smallBulkStatements);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Generation persistGeneration(int number) {
+        Generation generation = Generation.builder()
+                .number(number)
+                .name("Generation " + number)
+                .games(List.of("Red " + number, "Blue " + number))
+                .build();
+        entityManager.persist(generation);
+        return generation;
+    }
+
+    private Long persistPokemon(int dexNumber, String identifier, int typeCount, int abilityCount,
+                                List<Language> languages) {
+        return persistPokemon(persistGeneration(dexNumber), dexNumber, identifier, typeCount, abilityCount, languages);
+    }
+
+    private Long persistPokemon(Generation generation, int dexNumber, String identifier, int typeCount,
+                                int abilityCount, List<Language> languages) {
+        Pokemon pokemon = Pokemon.builder()
+                .nationalDexNumber(dexNumber)
+                .identifier(identifier)
+                .hp(50).attack(50).defense(50)
+                .specialAttack(50).specialDefense(50).speed(50)
+                .generation(generation)
+                .translations(new ArrayList<>())
+                .types(new ArrayList<>())
+                .abilities(new ArrayList<>())
+                .build();
+
+        for (Language language : languages) {
+            pokemon.getTranslations().add(PokemonTranslation.builder()
+                    .pokemon(pokemon)
+                    .language(language)
+                    .name(identifier + "-" + language.getCode())
+                    .build());
+        }
+
+        for (int slot = 1; slot <= typeCount; slot++) {
+            Type type = Type.builder()
+                    .identifier(identifier + "-type-" + slot)
+                    .translations(new ArrayList<>())
+                    .build();
+            for (Language language : languages) {
+                type.getTranslations().add(TypeTranslation.builder()
+                        .type(type).language(language).name(type.getIdentifier())
+                        .build());
+            }
+            entityManager.persist(type);
+            pokemon.getTypes().add(PokemonType.builder().pokemon(pokemon).type(type).slot(slot).build());
+        }
+
+        for (int slot = 1; slot <= abilityCount; slot++) {
+            Ability ability = Ability.builder()
+                    .identifier(identifier + "-ability-" + slot)
+                    .translations(new ArrayList<>())
+                    .build();
+            for (Language language : languages) {
+                ability.getTranslations().add(AbilityTranslation.builder()
+                        .ability(ability).language(language).name(ability.getIdentifier())
+                        .build());
+            }
+            entityManager.persist(ability);
+            pokemon.getAbilities().add(PokemonAbility.builder()
+                    .pokemon(pokemon).ability(ability).isHidden(slot == abilityCount).slot(slot)
+                    .build());
+        }
+
+        entityManager.persist(pokemon);
+        return pokemon.getId();
+    }
+}
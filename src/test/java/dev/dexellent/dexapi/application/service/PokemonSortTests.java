@@ -0,0 +1,36 @@
+package dev.dexellent.dexapi.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PokemonSortTests {
+
+    @Test
+    void breaksDatabaseTiesInDexOrderInTheRequestedDirection() {
+        Pageable ascending = PokemonSort.forDatabase(PageRequest.of(2, 20, Sort.by("speed")));
+        Pageable descending = PokemonSort.forDatabase(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "color")));
+
+        assertThat(ascending.getPageNumber()).isEqualTo(2);
+        assertThat(ascending.getPageSize()).isEqualTo(20);
+        assertThat(ascending.getSort()).containsExactly(Sort.Order.asc("speed"), Sort.Order.asc("nationalDexNumber"));
+        assertThat(descending.getSort()).containsExactly(Sort.Order.desc("color"), Sort.Order.desc("nationalDexNumber"));
+    }
+
+    @Test
+    void sortsUnsortedAndDexOrderedPagesByDexNumberOnly() {
+        assertThat(PokemonSort.forDatabase(PageRequest.of(0, 20)).getSort())
+                .containsExactly(Sort.Order.asc("nationalDexNumber"));
+        assertThat(PokemonSort.forDatabase(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "nationalDexNumber"))).getSort())
+                .containsExactly(Sort.Order.desc("nationalDexNumber"));
+    }
+
+    @Test
+    void rejectsNameOrderOnTheDatabase() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PokemonSort.forDatabase(PageRequest.of(0, 20, Sort.by("name"))));
+    }
+}
@@ -0,0 +1,80 @@
+package dev.dexellent.dexapi.domain.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AttributeRangeTests {
+
+    @Test
+    void parsesBothBounds() {
+        AttributeRange range = AttributeRange.parse("hp:60..90");
+
+        assertThat(range.attribute()).isEqualTo(RangeAttribute.HP);
+        assertThat(range.min()).isEqualTo(60);
+        assertThat(range.max()).isEqualTo(90);
+        assertThat(range.bounded()).isTrue();
+    }
+
+    @Test
+    void leavesOutMissingBounds() {
+        AttributeRange atLeast = AttributeRange.parse("speed:100..");
+        AttributeRange atMost = AttributeRange.parse(" attack : .. 50 ");
+
+        assertThat(atLeast.min()).isEqualTo(100);
+        assertThat(atLeast.max()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(atMost.attribute()).isEqualTo(RangeAttribute.ATTACK);
+        assertThat(atMost.min()).isEqualTo(RangeAttribute.ABSENT + 1);
+        assertThat(atMost.max()).isEqualTo(50);
+    }
+
+    @Test
+    void scalesDecimalBoundsAndRoundsInwards() {
+        AttributeRange height = AttributeRange.parse("height:0.555..1.999");
+        AttributeRange weight = AttributeRange.parse("weight:..6.9");
+
+        assertThat(height.min()).isEqualTo(56);
+        assertThat(height.max()).isEqualTo(199);
+        assertThat(weight.max()).isEqualTo(6900);
+    }
+
+    @Test
+    void saturatesBoundsOutsideTheIntRange() {
+        AttributeRange range = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> AttributeRange.parse("hp:-1e99999999..1e99999999"));
+
+        assertThat(range.min()).isEqualTo(RangeAttribute.ABSENT + 1);
+        assertThat(range.max()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(AttributeRange.parse("weight:..99999999999").max()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(AttributeRange.parse("hp:0e99999999..").min()).isZero();
+    }
+
+    @Test
+    void rejectsBoundsWithTooManyDecimals() {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+                assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("hp:1e-99999999..")));
+        assertThat(AttributeRange.parse("hp:1.0000000000000000000..").min()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsMalformedExpressions() {
+        assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("hp60..90"));
+        assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("hp:60-90"));
+        assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("hp:.."));
+        assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("hp:abc..90"));
+        assertThatIllegalArgumentException().isThrownBy(() -> AttributeRange.parse("luck:1..2"));
+    }
+
+    @Test
+    void intersectsRangesOnTheSameAttribute() {
+        AttributeRange range = AttributeRange.parse("hp:60..").intersect(AttributeRange.parse("hp:..90"));
+
+        assertThat(range.min()).isEqualTo(60);
+        assertThat(range.max()).isEqualTo(90);
+        assertThat(AttributeRange.unbounded(RangeAttribute.HP).bounded()).isFalse();
+    }
+}
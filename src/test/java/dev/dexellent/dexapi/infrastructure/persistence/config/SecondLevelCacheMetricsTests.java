@@ -0,0 +1,32 @@
+package dev.dexellent.dexapi.infrastructure.persistence.config;
+
+import dev.dexellent.dexapi.TestcontainersConfiguration;
+import dev.dexellent.dexapi.domain.model.Type;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// No profile and no statistics override, so this runs on the configuration production builds on
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "dexapi.snapshot.enabled=false")
+class SecondLevelCacheMetricsTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesSecondLevelCacheRequestsPerRegion() {
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Type.class.getName())
+                .tag("result", "hit")
+                .functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Type.class.getName())
+                .tag("result", "miss")
+                .functionCounter()).isNotNull();
+    }
+}
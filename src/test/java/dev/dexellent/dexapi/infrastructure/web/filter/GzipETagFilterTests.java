@@ -0,0 +1,101 @@
+package dev.dexellent.dexapi.infrastructure.web.filter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipETagFilterTests {
+
+    private static final String ETAG = "\"3:pokemon%2F25:en\"";
+    private static final String BODY = "{\"name\":\"Pikachu\"}".repeat(100);
+
+    private final GzipETagFilter filter = new GzipETagFilter(List.of(MimeType.valueOf("application/json")), 1024);
+
+    @Test
+    void gzipsStronglyTaggedResponsesUnderTheirOwnETag() throws Exception {
+        MockHttpServletResponse response = filter(request("gzip, deflate"), ETAG, BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3:pokemon%2F25:en-gzip\"");
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    void leavesIdentityResponsesToClientsWithoutGzip() throws Exception {
+        MockHttpServletResponse response = filter(request("gzip;q=0, br"), ETAG, BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void leavesUntaggedResponsesToTomcat() throws Exception {
+        MockHttpServletResponse response = filter(request("gzip"), null, BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void revalidatesGzippedCopiesAgainstTheIdentityETag() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3:pokemon%2F25:en-gzip\"");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                assertThat(req.getHeader(HttpHeaders.IF_NONE_MATCH)).isEqualTo(ETAG);
+                resp.setHeader(HttpHeaders.ETAG, ETAG);
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            }
+        }));
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3:pokemon%2F25:en-gzip\"");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, String etag, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (etag != null) {
+                    resp.setHeader(HttpHeaders.ETAG, etag);
+                }
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/pokemon/25");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}